@@ -0,0 +1,75 @@
+package com.example.mpa_login.benchmark;
+
+import com.example.mpa_login.security.model.CustomUser;
+import com.example.mpa_login.security.model.OAuthAttributes;
+import com.example.mpa_login.security.model.UserAuthorities;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 시 생성되는 인증 객체(CustomUser) 생성 비용 측정
+ * - CustomUserDetailsService / CustomOAuth2UserService 와 동일하게 공유 권한 목록 사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CustomUserBenchmark {
+
+    private OAuthAttributes oAuthAttributes;
+    private byte[] serializedOAuth2User;
+
+    @Setup
+    public void setUp() throws IOException {
+        oAuthAttributes = OAuthAttributes.builder()
+                .attributes(ProviderAttributes.of("kakao"))
+                .nameAttributeKey("id")
+                .id("123456789")
+                .name("홍길동")
+                .email("hong@example.com")
+                .picture("https://example.com/hong.png")
+                .build();
+        serializedOAuth2User = serialize(new CustomUser(1L, "hong@example.com", UserAuthorities.USER, oAuthAttributes));
+    }
+
+    @Benchmark
+    public CustomUser formLoginUser() {
+        return new CustomUser(1L, "hong@example.com", "{bcrypt}$2a$10$hash", UserAuthorities.USER);
+    }
+
+    @Benchmark
+    public CustomUser oauth2LoginUser() {
+        return new CustomUser(1L, "hong@example.com", UserAuthorities.USER, oAuthAttributes);
+    }
+
+    // 세션 복원 시마다 수행되는 역직렬화 비용 (권한 목록은 공유 인스턴스로 복원)
+    @Benchmark
+    public Object oauth2SessionRoundTrip() throws Exception {
+        return deserialize(serializedOAuth2User);
+    }
+
+    private static byte[] serialize(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        }
+    }
+}
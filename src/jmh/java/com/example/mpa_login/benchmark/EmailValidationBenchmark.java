@@ -0,0 +1,46 @@
+package com.example.mpa_login.benchmark;
+
+import com.example.mpa_login.user.EmailValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 회원가입 이메일 형식 검증 비용 측정 (UserController.register)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EmailValidationBenchmark {
+
+    private static final String EMAIL_REGEX = "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+$";
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(EMAIL_REGEX);
+
+    @Param({"hong.gildong@example.com", "not-an-email"})
+    public String email;
+
+    // 이전 방식: 요청마다 정규식을 컴파일
+    @Benchmark
+    public boolean patternMatches() {
+        return Pattern.matches(EMAIL_REGEX, email);
+    }
+
+    // 비교 대상: 미리 컴파일한 정규식 사용
+    @Benchmark
+    public boolean precompiledPattern() {
+        return EMAIL_PATTERN.matcher(email).matches();
+    }
+
+    // 현재 방식: 직접 구현한 검증기 (할당 없음)
+    @Benchmark
+    public boolean emailValidator() {
+        return EmailValidator.isValid(email);
+    }
+}
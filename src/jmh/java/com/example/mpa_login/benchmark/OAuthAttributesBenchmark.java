@@ -0,0 +1,59 @@
+package com.example.mpa_login.benchmark;
+
+import com.example.mpa_login.security.model.OAuthAttributes;
+import com.example.mpa_login.security.oauth.OAuthAttributeExtractors;
+import com.example.mpa_login.security.oauth.OAuthAttributeMappingProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.core.io.support.ResourcePropertySource;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 소셜 로그인 제공자별 OAuthAttributes 매핑 비용 측정
+ * - 로그인마다 수행되는 부분(추출기 조회 + 경로 따라 값 추출)만 측정
+ * - 매핑은 application.properties 의 oauth2.attribute-mapping 설정을 그대로 사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OAuthAttributesBenchmark {
+
+    @Param({"google", "naver", "kakao", "github"})
+    public String provider;
+
+    private OAuthAttributeExtractors extractors;
+    private String userNameAttributeName;
+    private Map<String, Object> attributes;
+
+    @Setup
+    public void setUp() throws IOException {
+        Binder binder = new Binder(ConfigurationPropertySources.from(
+                new ResourcePropertySource("classpath:application.properties")));
+        extractors = new OAuthAttributeExtractors(binder
+                .bind("oauth2.attribute-mapping", OAuthAttributeMappingProperties.class).get()
+                .getProviders());
+
+        userNameAttributeName = switch (provider) {
+            case "google" -> "sub";
+            case "naver" -> "response";
+            default -> "id";
+        };
+        attributes = ProviderAttributes.of(provider);
+    }
+
+    @Benchmark
+    public OAuthAttributes extract() {
+        return extractors.get(provider).extract(userNameAttributeName, attributes);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.mpa_login.benchmark;
+
+import java.util.Map;
+
+/**
+ * 벤치마크용 소셜 로그인 제공자별 user-info 응답 예시
+ */
+final class ProviderAttributes {
+
+    private ProviderAttributes() {
+    }
+
+    static Map<String, Object> of(String provider) {
+        return switch (provider) {
+            case "google" -> Map.of(
+                    "sub", "123456789",
+                    "name", "홍길동",
+                    "email", "hong@example.com",
+                    "picture", "https://example.com/hong.png");
+            case "naver" -> Map.of(
+                    "resultcode", "00",
+                    "response", Map.of(
+                            "id", "123456789",
+                            "name", "홍길동",
+                            "email", "hong@example.com",
+                            "profile_image", "https://example.com/hong.png"));
+            case "kakao" -> Map.of(
+                    "id", 123456789L,
+                    "kakao_account", Map.of(
+                            "email", "hong@example.com",
+                            "profile", Map.of(
+                                    "nickname", "홍길동",
+                                    "profile_image_url", "https://example.com/hong.png")));
+            case "github" -> Map.of(
+                    "id", 123456789,
+                    "login", "hong",
+                    "email", "hong@example.com",
+                    "avatar_url", "https://example.com/hong.png");
+            default -> throw new IllegalArgumentException("Unknown provider: " + provider);
+        };
+    }
+}
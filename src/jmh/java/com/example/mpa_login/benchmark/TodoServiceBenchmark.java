@@ -0,0 +1,110 @@
+package com.example.mpa_login.benchmark;
+
+import com.example.mpa_login.todo.TodoCountRepository;
+import com.example.mpa_login.todo.TodoListCache;
+import com.example.mpa_login.todo.TodoRepository;
+import com.example.mpa_login.todo.TodoService;
+import com.example.mpa_login.todo.model.Todo;
+import com.example.mpa_login.todo.model.TodoPage;
+import com.example.mpa_login.user.UserRepository;
+import com.example.mpa_login.user.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TodoService 목록 조회/수정 비용 측정 (내장 H2 데이터베이스)
+ * - listFirstPageCached: 사용자별 목록 캐시 적중
+ * - listFirstPageUncached: 매번 캐시를 비우고 DB에서 키셋 조회
+ * - updateTodo: 소유자 + 버전 조건 단일 UPDATE (호출마다 버전 증가)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TodoServiceBenchmark {
+
+    private static final int TODO_COUNT = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+    private TodoListCache todoListCache;
+    private User user;
+    private Long todoId;
+    private long todoVersion;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "logging.level.root=WARN")
+                .run();
+
+        todoService = context.getBean(TodoService.class);
+        todoListCache = context.getBean(TodoListCache.class);
+
+        User newUser = new User();
+        newUser.setUsername("bench@example.com");
+        user = context.getBean(UserRepository.class).save(newUser);
+
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < TODO_COUNT; i++) {
+            Todo todo = new Todo();
+            todo.setTitle("todo " + i);
+            todo.setDescription("description " + i);
+            todo.setUser(user);
+            todos.add(todo);
+        }
+        todoId = context.getBean(TodoRepository.class).saveAll(todos).get(0).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TodoPage listFirstPageCached() {
+        return todoService.getTodoPage(user.getId(), null, null, TodoService.DEFAULT_PAGE_SIZE);
+    }
+
+    @Benchmark
+    public TodoPage listFirstPageUncached() {
+        todoListCache.invalidate(user.getId());
+        return todoService.getTodoPage(user.getId(), null, null, TodoService.DEFAULT_PAGE_SIZE);
+    }
+
+    @Benchmark
+    public void updateTodo() {
+        todoService.updateTodo(todoId, "updated", "updated description", todoVersion++, user);
+    }
+
+    // 벤치마크용 최소 스프링 컨텍스트 (JPA + JDBC + TodoService)
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = {Todo.class, User.class})
+    @EnableJpaRepositories(basePackageClasses = {TodoRepository.class, UserRepository.class})
+    @Import({TodoService.class, TodoListCache.class, TodoCountRepository.class})
+    static class BenchmarkApplication {
+    }
+}
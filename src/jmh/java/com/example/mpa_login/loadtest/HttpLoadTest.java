@@ -0,0 +1,95 @@
+package com.example.mpa_login.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실행 중인 애플리케이션에 동시 요청을 보내 처리량과 지연 시간을 측정하는 부하 테스트
+ * - 기본 모드(플랫폼 스레드)와 virtual 프로파일(가상 스레드)로 각각 띄운 뒤 같은 조건으로 실행하여 비교
+ * - 인자: url, 동시 사용자 수, 실행 시간(초), 쿠키(선택, 인증이 필요한 /todos 측정 시 JSESSIONID=...)
+ * - 부하 발생 측은 가상 스레드를 사용하므로 클라이언트 스레드 수가 병목이 되지 않음
+ */
+public class HttpLoadTest {
+
+    private static final int MAX_LATENCY_MS = 10_000; // 지연 시간 히스토그램 상한
+
+    public static void main(String[] args) throws InterruptedException {
+        URI uri = URI.create(args.length > 0 ? args[0] : "http://localhost:8080/login");
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 30);
+        String cookie = args.length > 3 ? args[3] : "";
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET();
+        if (!cookie.isBlank()) {
+            requestBuilder.header("Cookie", cookie);
+        }
+        HttpRequest request = requestBuilder.build();
+
+        LongAdder completed = new LongAdder();
+        LongAdder errors = new LongAdder();
+        AtomicLongArray latencyHistogram = new AtomicLongArray(MAX_LATENCY_MS + 1); // 1ms 단위
+
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Runnable> tasks = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                tasks.add(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.increment();
+                                continue;
+                            }
+                            completed.increment();
+                            long latencyMs = (System.nanoTime() - start) / 1_000_000;
+                            latencyHistogram.incrementAndGet((int) Math.min(latencyMs, MAX_LATENCY_MS));
+                        } catch (Exception e) {
+                            errors.increment();
+                        }
+                    }
+                });
+            }
+            tasks.forEach(workers::submit);
+        } // 모든 작업이 끝날 때까지 대기
+
+        long total = completed.sum();
+        System.out.printf("{\"url\":\"%s\",\"concurrency\":%d,\"durationSeconds\":%d,"
+                        + "\"requests\":%d,\"errors\":%d,\"throughputPerSecond\":%.1f,"
+                        + "\"p50Ms\":%d,\"p95Ms\":%d,\"p99Ms\":%d}%n",
+                uri, concurrency, duration.toSeconds(),
+                total, errors.sum(), total / (double) duration.toSeconds(),
+                percentile(latencyHistogram, total, 0.50),
+                percentile(latencyHistogram, total, 0.95),
+                percentile(latencyHistogram, total, 0.99));
+    }
+
+    // 히스토그램에서 백분위 지연 시간(ms) 계산
+    private static int percentile(AtomicLongArray histogram, long total, double percentile) {
+        long target = (long) Math.ceil(total * percentile);
+        long seen = 0;
+        for (int ms = 0; ms < histogram.length(); ms++) {
+            seen += histogram.get(ms);
+            if (seen >= target && target > 0) {
+                return ms;
+            }
+        }
+        return MAX_LATENCY_MS;
+    }
+}
@@ -2,18 +2,19 @@ package com.example.mpa_login.security;
 
 import com.example.mpa_login.security.model.CustomUser;
 import com.example.mpa_login.security.model.CustomUserDetails;
+import com.example.mpa_login.security.model.UserAuthorities;
 import com.example.mpa_login.user.UserRepository;
 import com.example.mpa_login.user.model.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Optional;
 
 /**
  * Spring Security에서 사용자 인증 정보를 불러오기 위한 핵심 서비스 클래스
@@ -22,35 +23,63 @@ import java.util.List;
  * - loadUserByUsername() return 값을 기반으로 사용자 인증 진행
  * - 즉, 로그인 인증 흐름에 시작점
  * - 어플리케이션의 사용자 정보를 spring security가 이해할 수 있는 형태로 변환
+ * - UserDetailsPasswordService: 로그인 성공 시 해시 형식/cost 가 바뀌었으면 새 해시로 교체 저장
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final LoginMetrics loginMetrics; // 로그인 단계별 소요 시간 측정
+    private final UserDetailsCache userDetailsCache; // username 기준 사용자 조회 캐시
 
     // Spring Security가 로그인 시 호출 하는 메서드: username(email)으로 사용자 정보를 조회함
+    // 사용자 조회 소요 시간 측정 (사용자가 없으면 outcome=failure)
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        log.info("CustomUserDetailsService loadUserByUsername");
+        return loginMetrics.record(LoginMetrics.STAGE_USER_DETAILS, LoginMetrics.PROVIDER_FORM,
+                () -> loadUser(username));
+    }
+
+    private UserDetails loadUser(String username) {
+        log.debug("CustomUserDetailsService loadUserByUsername username = {}", username);
 
-        // username으로 사용자 정보를 조회, 없으면 예외 발생
-        User user = userRepository.findByUsername(username)
+        // 캐시에 없을 때만 DB 조회, 없는 사용자면 예외 발생
+        return userDetailsCache.get(username, this::findUser)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+    }
+
+    // username으로 사용자 정보를 조회 (없거나 폼 로그인 대상이 아니면 빈 값)
+    private Optional<CustomUser> findUser(String username) {
+        Optional<User> optionalUser = userRepository.findByUsername(username);
+
+        // 소셜 로그인 전용 계정은 비밀번호가 없으므로 폼 로그인 대상이 아님
+        // (이전에 임시 비밀번호로 가입된 소셜 계정도 socialType 으로 구분하여 차단)
+        if (optionalUser.isEmpty() || optionalUser.get().isSocialOnly()) {
+            return Optional.empty();
+        }
+        User user = optionalUser.get();
 
         // 사용자 정보 추출
         Long userId = user.getId();
         String email = user.getUsername();
         String password = user.getPassword();
 
-        // 사용자 권한 설정
-        List<SimpleGrantedAuthority> authorities = new ArrayList<>();
-        SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_USER"); // 기본 권한 부여
-        authorities.add(authority);
-
         // 사용자 정보를 담은 CustomUserDetails 객체 생성
         // 인증이 필요한 API에서 @AuthenticationPrincipal로 꺼내서 활용
-        return new CustomUser(userId, email, password, authorities);
+        return Optional.of(new CustomUser(userId, email, password, UserAuthorities.USER)); // 기본 권한 부여 (공유 권한 목록)
+    }
+
+    // 로그인 성공 후 비밀번호 해시 업그레이드가 필요할 때 Spring Security가 호출하는 메서드
+    // (DaoAuthenticationProvider: passwordEncoder.upgradeEncoding() 이 true 인 경우)
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePasswordByUsername(user.getUsername(), newPassword);
+        userDetailsCache.invalidate(user.getUsername()); // 이전 해시가 캐시에 남지 않도록 커밋 후 무효화
+
+        CustomUser customUser = (CustomUser) user;
+        return new CustomUser(customUser.getUserId(), customUser.getUsername(), newPassword, customUser.getAuthorities());
     }
 }
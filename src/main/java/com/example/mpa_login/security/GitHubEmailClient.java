@@ -0,0 +1,78 @@
+package com.example.mpa_login.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GitHub API(/user/emails)로 사용자의 primary 이메일을 조회하는 클라이언트
+ * - GitHub 는 이메일을 비공개로 설정한 사용자의 user-info 응답에 email 을 넣어주지 않음
+ * - 공용 커넥션 풀(RestTemplate)을 사용하고, GitHub 사용자 ID 기준으로 결과를 짧게 캐시
+ *   (재로그인 시 /user/emails 호출 생략)
+ */
+@Slf4j
+public class GitHubEmailClient {
+
+    private static final ParameterizedTypeReference<List<Map<String, Object>>> EMAIL_LIST_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final RestTemplate restTemplate; // 공용 OAuth HTTP 클라이언트
+    private final String emailsUrl; // 이메일 조회 API 주소
+    private final Cache<String, String> primaryEmails; // GitHub 사용자 ID -> primary 이메일
+
+    public GitHubEmailClient(RestTemplate restTemplate, String apiBaseUrl, Duration cacheTtl) {
+        this.restTemplate = restTemplate;
+        this.emailsUrl = apiBaseUrl + "/user/emails";
+        this.primaryEmails = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    // GitHub 사용자의 primary 이메일 조회 (캐시에 있으면 API 호출 생략)
+    public String getPrimaryEmail(String githubUserId, String accessToken) {
+        String cached = primaryEmails.getIfPresent(githubUserId);
+        if (cached != null) {
+            return cached;
+        }
+
+        String email = fetchPrimaryEmail(accessToken);
+        if (email != null) {
+            primaryEmails.put(githubUserId, email);
+        }
+        return email;
+    }
+
+    // GitHub API를 통해 사용자의 이메일 목록을 가져와 primary 이메일을 추출하는 메서드
+    private String fetchPrimaryEmail(String accessToken) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessToken);
+        headers.set(HttpHeaders.ACCEPT, "application/vnd.github.v3+json");
+
+        List<Map<String, Object>> emails = restTemplate
+                .exchange(emailsUrl, HttpMethod.GET, new HttpEntity<>(headers), EMAIL_LIST_TYPE)
+                .getBody();
+
+        // primary 이메일 추출
+        if (emails != null) {
+            for (Map<String, Object> emailData : emails) {
+                if (Boolean.TRUE.equals(emailData.get("primary"))) {
+                    return (String) emailData.get("email");
+                }
+            }
+        }
+
+        log.debug("GitHub primary email not found");
+        return null;
+    }
+}
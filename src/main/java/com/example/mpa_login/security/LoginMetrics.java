@@ -0,0 +1,66 @@
+package com.example.mpa_login.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 로그인 처리 단계별 소요 시간 측정 (Micrometer Timer)
+ * - 지표 이름: login.stage
+ * - 태그: stage(단계), provider(form, google, naver, kakao, github), outcome(결과)
+ * - 히스토그램을 함께 발행하므로 Prometheus 에서 단계별 p95/p99 계산 가능
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginMetrics {
+
+    public static final String METRIC_NAME = "login.stage";
+
+    // 측정 단계
+    public static final String STAGE_USER_DETAILS = "user_details"; // 폼 로그인 사용자 조회
+    public static final String STAGE_PASSWORD_MATCH = "password_match"; // 비밀번호 비교 (해시 풀 대기 포함)
+    public static final String STAGE_PASSWORD_ENCODE = "password_encode"; // 비밀번호 해시 (해시 풀 대기 포함)
+    public static final String STAGE_OAUTH2_LOAD_USER = "oauth2_load_user"; // OAuth2 사용자 처리 전체
+    public static final String STAGE_OAUTH2_USER_INFO = "oauth2_user_info"; // 제공자 user-info 호출
+    public static final String STAGE_GITHUB_EMAIL = "github_email"; // GitHub 이메일 조회
+    public static final String STAGE_USER_UPSERT = "user_upsert"; // 소셜 사용자 조회/등록
+    public static final String STAGE_SUCCESS_HANDLER = "success_handler"; // 로그인 성공 핸들러
+
+    public static final String PROVIDER_FORM = "form"; // 일반(폼) 로그인
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_FAILURE = "failure";
+
+    private final MeterRegistry meterRegistry;
+
+    // 측정 시작
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    // 측정 종료 및 기록
+    public void stop(Timer.Sample sample, String stage, String provider, String outcome) {
+        sample.stop(Timer.builder(METRIC_NAME)
+                .tag("stage", stage)
+                .tag("provider", provider)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    // 작업을 실행하면서 소요 시간을 기록 (예외 발생 시 outcome=failure)
+    public <T> T record(String stage, String provider, Supplier<T> action) {
+        Timer.Sample sample = start();
+        String outcome = OUTCOME_FAILURE;
+        try {
+            T result = action.get();
+            outcome = OUTCOME_SUCCESS;
+            return result;
+        } finally {
+            stop(sample, stage, provider, outcome);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.mpa_login.security;
+
+import com.example.mpa_login.security.model.CustomUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 폼 로그인 사용자 조회 캐시 (username -> CustomUser)
+ * - 같은 username 으로 반복되는 로그인 시도(무차별 대입 포함)가 매번 DB 를 조회하지 않도록 함
+ * - 없는 사용자, 소셜 전용 계정도 빈 값으로 캐시 (가입/소셜 가입 시 해당 username 무효화)
+ * - Caffeine(W-TinyLFU) 크기 제한과 TTL 로 제거, 지표는 cache.* (cache=user.details) 로 노출
+ * - CustomUser 는 불변이고 CredentialsContainer 를 구현하지 않으므로 인증 후에도 캐시된 비밀번호 해시가 지워지지 않음
+ */
+@Component
+public class UserDetailsCache {
+
+    private final Cache<String, Optional<CustomUser>> cache;
+    private final AtomicLong invalidations = new AtomicLong(); // 무효화 횟수 (조회 중 무효화 여부 확인용)
+
+    public UserDetailsCache(MeterRegistry meterRegistry,
+                            @Value("${security.user-cache.maximum-size:10000}") long maximumSize,
+                            @Value("${security.user-cache.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user.details");
+    }
+
+    // 캐시된 사용자를 반환하고, 없으면 loader 로 조회한 결과를 캐시에 저장
+    // loader(DB 조회)는 Caffeine 의 compute 잠금 밖에서 실행 (잠금을 잡은 채 DB 를 기다리지 않음, 가상 스레드 고정 방지)
+    // 조회 중에 무효화가 있었으면 조회 결과가 이전 값일 수 있으므로 저장하지 않음
+    public Optional<CustomUser> get(String username, Function<String, Optional<CustomUser>> loader) {
+        Optional<CustomUser> cached = cache.getIfPresent(username);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = invalidations.get();
+        Optional<CustomUser> loaded = loader.apply(username);
+        if (invalidations.get() == generation) {
+            cache.put(username, loaded);
+        }
+        return loaded;
+    }
+
+    // 사용자 정보가 바뀌었을 때 무효화 (진행 중인 트랜잭션이 있으면 커밋 이후에 무효화)
+    public void invalidate(String username) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(username);
+                }
+            });
+            return;
+        }
+
+        evict(username);
+    }
+
+    private void evict(String username) {
+        invalidations.incrementAndGet(); // 먼저 증가시켜 진행 중인 조회가 이전 값을 저장하지 않도록 함
+        cache.invalidate(username);
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.mpa_login.security.audit;
+
+import com.example.mpa_login.security.audit.model.AuthAuditRecord;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 감사 로그 비동기 기록 파이프라인
+ * - 요청 스레드는 크기가 제한된 대기열에 넣기만 하고, 전용 스레드 하나가 모아서 JDBC 배치 INSERT
+ * - 대기열이 가득 찼을 때 정책 (security.audit.overflow-policy)
+ *   - DROP_OLDEST: 가장 오래된 기록을 버리고 새 기록 추가 (로그인 지연 없음)
+ *   - BLOCK: block-timeout 까지 기다린 뒤에도 자리가 없으면 새 기록을 버림
+ * - 지표: auth.audit.dropped, auth.audit.write.failed, auth.audit.queue.size
+ * - 배치 INSERT 가 실패하면 한 건씩 다시 기록 (실패한 기록만 auth.audit.write.failed 로 집계)
+ * - 종료 시 대기열에 남은 기록을 모두 기록
+ */
+@Slf4j
+@Component
+public class AuthAuditPipeline implements InitializingBean, DisposableBean {
+
+    public enum OverflowPolicy { DROP_OLDEST, BLOCK }
+
+    private static final String INSERT_SQL = "insert into auth_events "
+            + "(occurred_at, event_type, username, provider, outcome, ip) values (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<AuthAuditRecord> queue;
+    private final OverflowPolicy overflowPolicy;
+    private final Duration blockTimeout;
+    private final int batchSize;
+    private final Duration flushInterval;
+
+    private final Counter dropped;
+    private final Counter writeFailed;
+
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public AuthAuditPipeline(JdbcTemplate jdbcTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${security.audit.queue-capacity:10000}") int queueCapacity,
+                             @Value("${security.audit.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+                             @Value("${security.audit.block-timeout:50ms}") Duration blockTimeout,
+                             @Value("${security.audit.batch-size:200}") int batchSize,
+                             @Value("${security.audit.flush-interval:1s}") Duration flushInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeout = blockTimeout;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+
+        this.dropped = Counter.builder("auth.audit.dropped").register(meterRegistry);
+        this.writeFailed = Counter.builder("auth.audit.write.failed").register(meterRegistry);
+        Gauge.builder("auth.audit.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+
+        this.writer = new Thread(this::runWriter, "auth-audit-writer");
+        this.writer.setDaemon(true);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        writer.start();
+    }
+
+    // 감사 기록 추가 (요청 스레드에서 호출, DB 작업 없음)
+    public void submit(AuthAuditRecord record) {
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            try {
+                if (!queue.offer(record, blockTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                    dropped.increment();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                dropped.increment();
+            }
+            return;
+        }
+
+        // DROP_OLDEST: 자리가 생길 때까지 가장 오래된 기록 제거
+        while (!queue.offer(record)) {
+            if (queue.poll() != null) {
+                dropped.increment();
+            }
+        }
+    }
+
+    // 기록 스레드: 한 건이 들어올 때까지 기다린 뒤 대기열에 쌓인 만큼 한 번에 기록
+    private void runWriter() {
+        List<AuthAuditRecord> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                AuthAuditRecord first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 배치 INSERT, 실패하면 한 건씩 다시 기록해서 문제가 되는 기록만 버림
+    private void write(List<AuthAuditRecord> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), AuthAuditPipeline::bind);
+        } catch (RuntimeException e) {
+            log.warn("Failed to write {} auth audit events in a batch, retrying one by one", batch.size(), e);
+            for (AuthAuditRecord record : batch) {
+                writeOne(record);
+            }
+        }
+    }
+
+    private void writeOne(AuthAuditRecord record) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, record));
+        } catch (RuntimeException e) {
+            writeFailed.increment();
+            log.warn("Failed to write auth audit event {}", record.eventType(), e);
+        }
+    }
+
+    private static void bind(PreparedStatement ps, AuthAuditRecord record) throws SQLException {
+        ps.setTimestamp(1, Timestamp.from(record.occurredAt()));
+        ps.setString(2, record.eventType());
+        ps.setString(3, record.username());
+        ps.setString(4, record.provider());
+        ps.setString(5, record.outcome());
+        ps.setString(6, record.ip());
+    }
+
+    // 종료 시 기록 스레드를 멈추고 남은 기록을 현재 스레드에서 모두 기록
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false; // 기록 스레드는 진행 중인 배치를 마치고 flush-interval 안에 종료
+        writer.join(flushInterval.toMillis() * 2);
+
+        List<AuthAuditRecord> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.mpa_login.security.audit.model;
+
+import java.time.Instant;
+
+/**
+ * 감사 로그 대기열에 쌓이는 인증 이벤트 한 건 (auth_events 한 행)
+ * - 문자열은 생성 시 컬럼 길이로 자름 (입력값인 username 이 길어도 INSERT 가 실패하지 않도록)
+ */
+public record AuthAuditRecord(Instant occurredAt,
+                              String eventType,
+                              String username,
+                              String provider,
+                              String outcome,
+                              String ip) {
+
+    public AuthAuditRecord {
+        eventType = truncate(eventType, AuthEvent.EVENT_TYPE_LENGTH);
+        username = truncate(username, AuthEvent.USERNAME_LENGTH);
+        provider = truncate(provider, AuthEvent.PROVIDER_LENGTH);
+        outcome = truncate(outcome, AuthEvent.OUTCOME_LENGTH);
+        ip = truncate(ip, AuthEvent.IP_LENGTH);
+    }
+
+    private static String truncate(String value, int length) {
+        return value == null || value.length() <= length ? value : value.substring(0, length);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.mpa_login.security.audit.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 인증 감사 로그 테이블(auth_events) 정의
+ * - 스키마 생성용 엔티티이며, 기록은 AuthAuditPipeline 이 JDBC 배치 INSERT 로 수행
+ */
+@Getter
+@Entity
+@Table(name = "auth_events", indexes = {
+        @Index(name = "idx_auth_events_username_occurred_at", columnList = "username, occurred_at"),
+        @Index(name = "idx_auth_events_occurred_at", columnList = "occurred_at")
+})
+public class AuthEvent {
+
+    // 컬럼 길이 (AuthAuditRecord 가 기록 전에 이 길이로 자름)
+    public static final int EVENT_TYPE_LENGTH = 64;
+    public static final int USERNAME_LENGTH = 255;
+    public static final int PROVIDER_LENGTH = 32;
+    public static final int OUTCOME_LENGTH = 16;
+    public static final int IP_LENGTH = 45;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Instant occurredAt; // 이벤트 발생 시각
+
+    @Column(nullable = false, length = EVENT_TYPE_LENGTH)
+    private String eventType; // 이벤트 종류 (예: AuthenticationSuccessEvent)
+
+    @Column(length = USERNAME_LENGTH)
+    private String username; // 로그인 시도한 사용자명 (입력값 그대로이므로 길이 제한 필요)
+
+    @Column(length = PROVIDER_LENGTH)
+    private String provider; // form, google, naver, kakao, github
+
+    @Column(nullable = false, length = OUTCOME_LENGTH)
+    private String outcome; // success / failure
+
+    @Column(length = IP_LENGTH)
+    private String ip; // 클라이언트 IP (IPv6 포함)
+}
@@ -0,0 +1,90 @@
+package com.example.mpa_login.security.config;
+
+import com.example.mpa_login.security.GitHubEmailClient;
+import com.example.mpa_login.security.oauth.OAuthAttributeExtractors;
+import com.example.mpa_login.security.oauth.OAuthAttributeMappingProperties;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+/**
+ * OAuth2 사용자 정보 조회용 HTTP 클라이언트 설정
+ * - 로그인마다 RestTemplate 을 새로 만들지 않고 커넥션 풀(keep-alive)을 공유
+ * - 연결/응답 타임아웃을 지정하여 외부 제공자 장애 시 요청 스레드가 무한정 대기하지 않도록 함
+ * - user-info 호출(DefaultOAuth2UserService)과 GitHub 이메일 조회가 같은 클라이언트를 사용
+ * - 제공자별 사용자 정보 매핑(oauth2.attribute-mapping)도 여기서 등록
+ */
+@Configuration
+@EnableConfigurationProperties(OAuthAttributeMappingProperties.class)
+public class OAuth2ClientConfig {
+
+    // 커넥션 풀을 가진 HTTP 클라이언트 (애플리케이션 종료 시 close)
+    @Bean
+    CloseableHttpClient oauth2HttpClient(
+            @Value("${oauth2.http.connect-timeout:2s}") Duration connectTimeout, // 연결 타임아웃
+            @Value("${oauth2.http.read-timeout:5s}") Duration readTimeout, // 응답(소켓) 타임아웃
+            @Value("${oauth2.http.max-connections:50}") int maxConnections // 최대 커넥션 수
+    ) {
+        HttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .evictIdleConnections(TimeValue.ofSeconds(30)) // 오래 쉬는 커넥션 정리
+                .build();
+    }
+
+    // OAuth2 제공자 호출용 RestTemplate (OAuth2 오류 응답 처리 포함)
+    @Bean
+    RestTemplate oauth2RestTemplate(CloseableHttpClient oauth2HttpClient) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(oauth2HttpClient));
+        restTemplate.setErrorHandler(new OAuth2ErrorResponseErrorHandler());
+        return restTemplate;
+    }
+
+    // GitHub primary 이메일 조회 클라이언트
+    @Bean
+    GitHubEmailClient gitHubEmailClient(
+            RestTemplate oauth2RestTemplate,
+            @Value("${oauth2.github.api-base-url:https://api.github.com}") String apiBaseUrl, // 테스트 시 스텁 서버 주소로 변경
+            @Value("${oauth2.github.email-cache-ttl:10m}") Duration emailCacheTtl // 이메일 캐시 유지 시간
+    ) {
+        return new GitHubEmailClient(oauth2RestTemplate, apiBaseUrl, emailCacheTtl);
+    }
+
+    // 제공자별 사용자 정보 추출기 (등록된 OAuth2 클라이언트 중 매핑이 없는 것이 있으면 시작 시 실패)
+    @Bean
+    OAuthAttributeExtractors oauthAttributeExtractors(OAuthAttributeMappingProperties properties,
+                                                      ObjectProvider<ClientRegistrationRepository> clientRegistrations) {
+        OAuthAttributeExtractors extractors = new OAuthAttributeExtractors(properties.getProviders());
+
+        if (clientRegistrations.getIfAvailable() instanceof Iterable<?> registrations) {
+            @SuppressWarnings("unchecked")
+            Iterable<ClientRegistration> iterable = (Iterable<ClientRegistration>) registrations;
+            extractors.verifyCovers(iterable);
+        }
+        return extractors;
+    }
+}
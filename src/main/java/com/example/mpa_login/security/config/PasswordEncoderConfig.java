@@ -0,0 +1,43 @@
+package com.example.mpa_login.security.config;
+
+import com.example.mpa_login.security.LoginMetrics;
+import com.example.mpa_login.security.crypto.OffloadedPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 비밀번호 암호화 설정
+ * - SecurityConfig 와 분리하여 다른 서비스(UserService 등)에서 순환참조 없이 주입받을 수 있도록 함
+ * - 저장 형식: {bcrypt}$2a$... (접두어 없는 기존 해시도 BCrypt 로 검증)
+ * - 로그인 성공 시 upgradeEncoding 이 true 면 새 cost 로 다시 해시해서 저장 (CustomUserDetailsService.updatePassword)
+ */
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final String ENCODING_ID = "bcrypt";
+
+    // 비밀번호 암호화를 위한 Bean 등록
+    @Bean
+    PasswordEncoder passwordEncoder(
+            @Value("${security.password.bcrypt-strength:10}") int strength, // BCrypt cost (4 ~ 31)
+            @Value("${security.password.hashing-threads:0}") int threads, // 0 이면 CPU 코어 수
+            @Value("${security.password.hashing-queue-capacity:100}") int queueCapacity, // 대기열 최대 크기
+            @Value("${security.password.hashing-timeout:5s}") Duration timeout, // 해시 결과 최대 대기 시간
+            LoginMetrics loginMetrics // 해시 소요 시간 측정
+    ) {
+        PasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(ENCODING_ID, Map.of(ENCODING_ID, bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt); // 접두어 없이 저장된 기존 BCrypt 해시 검증
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new OffloadedPasswordEncoder(delegating, poolSize, queueCapacity, timeout, loginMetrics);
+    }
+}
@@ -1,21 +1,45 @@
 package com.example.mpa_login.security.config;
 
+import com.example.mpa_login.security.LoginMetrics;
 import com.example.mpa_login.security.handler.CustomLoginFailureHandler;
 import com.example.mpa_login.security.handler.CustomLoginSuccessHandler;
+import com.example.mpa_login.security.ratelimit.LoginRateLimitFilter;
+import com.example.mpa_login.security.ratelimit.LoginRateLimiter;
+import com.example.mpa_login.security.token.AuthTokenService;
+import com.example.mpa_login.security.token.HttpCookieOAuth2AuthorizationRequestRepository;
+import com.example.mpa_login.security.token.SignedTokenAuthenticationFilter;
+import com.example.mpa_login.security.token.SignedTokenCodec;
+import com.example.mpa_login.user.LastLoginTracker;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.AuthenticationFailureHandler;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
+import org.springframework.security.web.savedrequest.HttpSessionRequestCache;
+import org.springframework.security.web.savedrequest.NullRequestCache;
+import org.springframework.security.web.savedrequest.RequestCache;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.List;
 
 /**
  * spring security 설정의 시작점
@@ -32,19 +56,35 @@ public class SecurityConfig {
     // 일반 로그인 시 사용자 정보를 로드할 커스텀 서비스
     private final UserDetailsService customUserDetailsService;
 
-    // 비밀번호 암호화를 위한 Bean 등록
-    @Bean
-    PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(); // BCrypt 알고리즘을 사용한 PasswordEncoder 반환
-    }
+    // 로그인 단계별 소요 시간 측정
+    private final LoginMetrics loginMetrics;
+
+    // 로그인 실패 횟수 기반 요청 제한
+    private final LoginRateLimiter loginRateLimiter;
+
+    // 마지막 로그인 시각, 횟수 기록
+    private final LastLoginTracker lastLoginTracker;
+
+    // 무상태 모드(security.session.mode=stateless)에서만 등록되는 토큰 관련 Bean
+    private final ObjectProvider<AuthTokenService> authTokenService;
+    private final ObjectProvider<SignedTokenCodec> signedTokenCodec;
+
+    // 비밀번호 암호화 Bean 은 PasswordEncoderConfig 에서 등록
 
     // SecurityFilterChain: 보안 설정의 핵심 구성 요소
     @Bean
-    SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                            @Value("${security.metrics.allowed-addresses:127.0.0.1/32,::1/128}")
+                                            List<String> metricsAllowedAddresses) throws Exception {
         http
                 // 요청 권한 설정
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/", "/users/register", "/login", "/css/**", "/js/**").permitAll() // 비로그인 접근 허용
+                        .requestMatchers("/actuator/health").permitAll() // 헬스 체크
+                        // 지표는 내부 지표 (로그인 단계별 시간, 실패 횟수 등) 이므로 허용된 주소의 수집기만 접근
+                        .requestMatchers("/actuator/prometheus", "/actuator/metrics", "/actuator/metrics/**")
+                        .access(fromAddresses(metricsAllowedAddresses))
+                        .requestMatchers("/actuator/**").denyAll()
                         .anyRequest().authenticated() // 나머지는 인증 필요
                 )
                 // 일반 로그인 처리 시 사용자 정보 조회 서비스 등록
@@ -71,20 +111,76 @@ public class SecurityConfig {
                         .logoutUrl("/logout") // 로그아웃 요청 URL
                         .logoutSuccessUrl("/login?logout") // 로그아웃 성공 시 이동할 URL
                         .permitAll() // 로그아웃 경로 접근 허용
-                );
+                )
+                // JSON API(/api/**)는 로그인 페이지로 리다이렉트하지 않고 401 응답
+                .exceptionHandling(exceptions -> exceptions
+                        .defaultAuthenticationEntryPointFor(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED), apiRequests())
+                )
+                // 사용자 조회, 비밀번호 해시 비교 이전에 로그인 요청 제한
+                .addFilterBefore(new LoginRateLimitFilter(loginRateLimiter), UsernamePasswordAuthenticationFilter.class);
+
+        AuthTokenService tokenService = authTokenService.getIfAvailable();
+        if (tokenService != null) {
+            configureStateless(http, tokenService, signedTokenCodec.getObject());
+        }
 
         return http.build(); // 설정 완료 후 SecurityFilterChain 반환
     }
 
+    // 요청 주소(remoteAddr)가 허용 목록(IP 또는 CIDR)에 있는지 확인
+    private static AuthorizationManager<RequestAuthorizationContext> fromAddresses(List<String> addresses) {
+        List<IpAddressMatcher> matchers = addresses.stream().map(IpAddressMatcher::new).toList();
+        return (authentication, context) -> new AuthorizationDecision(
+                matchers.stream().anyMatch(matcher -> matcher.matches(context.getRequest())));
+    }
+
+    // /api/ 하위 요청 여부 (컨텍스트 경로 포함)
+    private static RequestMatcher apiRequests() {
+        return request -> request.getRequestURI().startsWith(request.getContextPath() + "/api/")
+                || request.getRequestURI().equals(request.getContextPath() + "/api");
+    }
+
+    /**
+     * 무상태 모드: HttpSession 을 만들지 않고 서명된 쿠키로 인증 상태를 유지
+     * - 로그인 성공 시 CustomLoginSuccessHandler 가 인증 쿠키를 발급하고, 이후 요청은 필터가 쿠키를 검증
+     * - SecurityContext 는 요청 범위에만 보관, 저장된 요청(RequestCache)은 사용하지 않음
+     * - CSRF 토큰과 OAuth2 인가 요청(state)도 세션 대신 쿠키에 보관
+     */
+    private void configureStateless(HttpSecurity http,
+                                    AuthTokenService tokenService,
+                                    SignedTokenCodec codec) throws Exception {
+        http
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .securityContext(context -> context
+                        .securityContextRepository(new RequestAttributeSecurityContextRepository()))
+                .requestCache(cache -> cache.requestCache(new NullRequestCache()))
+                .csrf(csrf -> csrf.csrfTokenRepository(new CookieCsrfTokenRepository()))
+                .oauth2Login(oauth2 -> oauth2
+                        .authorizationEndpoint(endpoint -> endpoint
+                                .authorizationRequestRepository(new HttpCookieOAuth2AuthorizationRequestRepository(codec)))
+                )
+                .logout(logout -> logout
+                        .addLogoutHandler((request, response, authentication) ->
+                                tokenService.clearCookie(request, response)) // 로그아웃 시 인증 쿠키 삭제
+                )
+                .addFilterBefore(new SignedTokenAuthenticationFilter(tokenService),
+                        UsernamePasswordAuthenticationFilter.class);
+    }
+
     // 로그인 성공 시 실행될 핸들러 Bean 등록
     @Bean
     AuthenticationSuccessHandler authenticationSuccessHandler() {
-        return new CustomLoginSuccessHandler(); // 커스텀 로그인 성공 핸들러 반환
+        // 무상태 모드면 인증 쿠키 발급 (세션 모드에서는 null)
+        return new CustomLoginSuccessHandler(loginMetrics, authTokenService.getIfAvailable(), lastLoginTracker); // 커스텀 로그인 성공 핸들러 반환
     }
 
     // 로그인 실패 시 실행될 핸들러 Bean 등록
     @Bean
     AuthenticationFailureHandler authenticationFailureHandler() {
-        return new CustomLoginFailureHandler(); // 커스터 로그인 실패 핸들러 반환
+        // 무상태 모드에서는 세션에 저장된 요청이 없으므로 NullRequestCache 사용
+        RequestCache requestCache = authTokenService.getIfAvailable() != null
+                ? new NullRequestCache()
+                : new HttpSessionRequestCache();
+        return new CustomLoginFailureHandler(requestCache); // 커스터 로그인 실패 핸들러 반환
     }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.example.mpa_login.security.config;
+
+import com.example.mpa_login.security.session.CompactSessionSerializer;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.session.MapSessionRepository;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 외부 세션 저장소 설정
+ * - 기본(session.store=jdbc): Spring Boot 자동 설정으로 MySQL 의 SPRING_SESSION 테이블에 세션 저장 (spring.session.jdbc.*)
+ * - session.store=memory: 테스트, 단일 노드 실행용 메모리 저장소 (MapSessionRepository 가 있으면 JDBC 자동 설정은 적용되지 않음)
+ * - 세션 속성 직렬화는 springSessionConversionService 이름의 ConversionService 로 교체 (CompactSessionSerializer)
+ */
+@Configuration
+public class SessionStoreConfig implements BeanClassLoaderAware {
+
+    private ClassLoader classLoader;
+
+    @Override
+    public void setBeanClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    // JdbcIndexedSessionRepository 가 세션 속성 <-> BLOB 변환에 사용하는 ConversionService
+    @Bean
+    ConversionService springSessionConversionService() {
+        CompactSessionSerializer serializer = new CompactSessionSerializer(classLoader);
+
+        GenericConversionService conversionService = new GenericConversionService();
+        conversionService.addConverter(Object.class, byte[].class, serializer::serialize);
+        conversionService.addConverter(byte[].class, Object.class, serializer::deserialize);
+        return conversionService;
+    }
+
+    // 메모리 세션 저장소 (만료된 세션은 접근 시 제거)
+    @Configuration
+    @ConditionalOnProperty(name = "session.store", havingValue = "memory")
+    @EnableSpringHttpSession
+    static class MemorySessionStoreConfig {
+
+        @Bean
+        MapSessionRepository sessionRepository() {
+            return new MapSessionRepository(new ConcurrentHashMap<>());
+        }
+    }
+}
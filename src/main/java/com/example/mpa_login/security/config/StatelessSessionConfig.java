@@ -0,0 +1,34 @@
+package com.example.mpa_login.security.config;
+
+import com.example.mpa_login.security.token.AuthTokenService;
+import com.example.mpa_login.security.token.SignedTokenCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 무상태(stateless) 인증 모드 설정
+ * - security.session.mode=stateless 일 때만 등록되며, SecurityConfig 가 이 Bean 유무로 모드를 판단
+ * - 서명 키(security.session.token-secret)는 모든 노드가 같은 값을 사용해야 함
+ */
+@Configuration
+@ConditionalOnProperty(name = "security.session.mode", havingValue = "stateless")
+public class StatelessSessionConfig {
+
+    @Bean
+    SignedTokenCodec signedTokenCodec(@Value("${security.session.token-secret:}") String secret) {
+        if (secret.isBlank()) {
+            throw new IllegalStateException("security.session.token-secret is required in stateless mode");
+        }
+        return new SignedTokenCodec(secret);
+    }
+
+    @Bean
+    AuthTokenService authTokenService(SignedTokenCodec signedTokenCodec,
+                                      @Value("${security.session.token-ttl:8h}") Duration ttl) {
+        return new AuthTokenService(signedTokenCodec, ttl);
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.mpa_login.security.crypto;
+
+import com.example.mpa_login.security.LoginMetrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 비밀번호 해시(encode/matches)를 전용 스레드 풀에서 실행하는 PasswordEncoder
+ * - BCrypt 는 CPU 를 많이 사용하므로 동시에 실행되는 해시 개수를 스레드 수로 제한
+ * - 대기열(queue)이 가득 차면 즉시 PasswordHashingRejectedException 을 던져 503 으로 응답
+ * - 로그인 폭주 시에도 요청 스레드가 모두 해시 계산에 묶이지 않아 다른 요청(/todos 등)을 처리 가능
+ * - encode/matches 소요 시간(대기열 대기 포함)을 login.stage 지표로 기록
+ */
+@Slf4j
+public class OffloadedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate; // 실제 해시를 수행하는 인코더
+    private final ThreadPoolExecutor executor; // 해시 전용 스레드 풀
+    private final Duration timeout; // 대기열 + 해시 계산 최대 대기 시간
+    private final LoginMetrics loginMetrics; // 해시 소요 시간 측정
+
+    public OffloadedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration timeout,
+                                    LoginMetrics loginMetrics) {
+        this.delegate = delegate;
+        this.timeout = timeout;
+        this.loginMetrics = loginMetrics;
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), // 크기가 제한된 대기열
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy()); // 대기열이 가득 차면 RejectedExecutionException
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return loginMetrics.record(LoginMetrics.STAGE_PASSWORD_ENCODE, LoginMetrics.PROVIDER_FORM,
+                () -> execute(() -> delegate.encode(rawPassword)));
+    }
+
+    // 비밀번호 비교 (outcome: match, mismatch, failure)
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        Timer.Sample sample = loginMetrics.start();
+        String outcome = LoginMetrics.OUTCOME_FAILURE;
+        try {
+            boolean matched = execute(() -> delegate.matches(rawPassword, encodedPassword));
+            outcome = matched ? "match" : "mismatch";
+            return matched;
+        } finally {
+            loginMetrics.stop(sample, LoginMetrics.STAGE_PASSWORD_MATCH, LoginMetrics.PROVIDER_FORM, outcome);
+        }
+    }
+
+    // 해시 비용(cost)이나 알고리즘이 바뀌었는지 확인: 문자열 비교만 하므로 풀을 거치지 않음
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    // 해시 작업을 풀에 제출하고 결과를 기다리는 메서드
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("Password hashing rejected: queue is full");
+            throw new PasswordHashingRejectedException("Password hashing queue is full", e);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new PasswordHashingRejectedException("Password hashing timed out", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new PasswordHashingRejectedException("Password hashing interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    // 애플리케이션 종료 시 해시 스레드 풀 종료
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
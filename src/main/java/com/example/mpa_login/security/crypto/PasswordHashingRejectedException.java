@@ -0,0 +1,19 @@
+package com.example.mpa_login.security.crypto;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 비밀번호 해시 풀이 포화 상태라 요청을 처리하지 못했을 때 발생하는 예외
+ * - 폼 로그인: AuthenticationException 이므로 로그인 실패 핸들러에서 503 으로 응답
+ * - 회원가입: UserController 의 예외 핸들러에서 Retry-After 와 함께 503 으로 응답
+ * - 그 밖의 MVC 요청: @ResponseStatus 로 503 응답
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PasswordHashingRejectedException extends AuthenticationServiceException {
+
+    public PasswordHashingRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
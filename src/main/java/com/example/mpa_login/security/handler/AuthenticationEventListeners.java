@@ -1,12 +1,24 @@
 package com.example.mpa_login.security.handler;
 
+import com.example.mpa_login.security.LoginMetrics;
+import com.example.mpa_login.security.audit.AuthAuditPipeline;
+import com.example.mpa_login.security.audit.model.AuthAuditRecord;
+import com.example.mpa_login.security.ratelimit.LoginRateLimiter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
 import org.springframework.security.authentication.event.AbstractAuthenticationEvent;
+import org.springframework.security.authentication.event.AbstractAuthenticationFailureEvent;
 import org.springframework.security.authentication.event.AuthenticationFailureBadCredentialsEvent;
 import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.client.authentication.OAuth2LoginAuthenticationToken;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+
 /**
  * spring security 인증 관련 이벤트들을 수신하여 처리하는 리스너 클래스
  * - 인증 성공과 실패에 따른 추가 처리
@@ -14,25 +26,68 @@ import org.springframework.stereotype.Component;
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class AuthenticationEventListeners {
 
-    // 모든 인증 이벤트의 공통 처리, 이벤트 타입에 따라 분기 처리
+    private final LoginRateLimiter loginRateLimiter; // 로그인 실패 횟수 기반 요청 제한
+    private final AuthAuditPipeline authAuditPipeline; // 감사 로그 비동기 기록
+
+    // 모든 인증 이벤트의 공통 처리: 로그인 성공/실패를 감사 로그 대기열에 추가 (DB 기록은 별도 스레드)
     @EventListener
     public void handleAuthenticationEvent(AbstractAuthenticationEvent event) {
-        log.info("handleAuthenticationEvent" + event); // 인증 이벤트 발생 시 로그 출력
+        log.debug("handleAuthenticationEvent {}", event.getClass().getSimpleName()); // 인증 이벤트 발생 시 로그 출력
+
+        // InteractiveAuthenticationSuccessEvent 등 같은 로그인의 후속 이벤트는 중복 기록하지 않음
+        boolean failure = event instanceof AbstractAuthenticationFailureEvent;
+        if (!failure && !(event instanceof AuthenticationSuccessEvent)) {
+            return;
+        }
+
+        Authentication authentication = event.getAuthentication();
+        authAuditPipeline.submit(new AuthAuditRecord(
+                Instant.ofEpochMilli(event.getTimestamp()),
+                event.getClass().getSimpleName(),
+                authentication.getName(),
+                provider(authentication),
+                failure ? LoginMetrics.OUTCOME_FAILURE : LoginMetrics.OUTCOME_SUCCESS,
+                remoteAddress(authentication)));
     }
 
     // 로그인 실패 이벤트 처리(잘못된 자격 증명)
-    // 비밀번호 실패 시: 실패 로그 남기기, 실패 횟수 증가시키키, 일정 횟수 이상 실패시 계정 잠금 처리
+    // 비밀번호 실패 시: username, IP 별 실패 횟수 증가 (일정 횟수 이상이면 LoginRateLimitFilter 가 차단)
     @EventListener
     public void handleBadCredentials(AuthenticationFailureBadCredentialsEvent event) {
-        log.info("handleBadCredentials"); // 로그인 실패 시 로그 출력
+        log.debug("handleBadCredentials"); // 로그인 실패 시 로그 출력
+
+        Authentication authentication = event.getAuthentication();
+        loginRateLimiter.recordFailure(authentication.getName(), remoteAddress(authentication));
     }
 
     // 로그인 성공 이벤트 처리
     // 마지막 로그인 시각 기록, 성공적으로 로그인한 사용자에게 알림 발송, 로그인 성공 횟수 초기화
     @EventListener
     public void handleAuthenticationSuccess(AuthenticationSuccessEvent event) {
-        log.info("handleAuthenticationSuccess"); // 로그인 성공 시 로그 출력
+        log.debug("handleAuthenticationSuccess"); // 로그인 성공 시 로그 출력
+
+        loginRateLimiter.reset(event.getAuthentication().getName()); // 로그인 실패 횟수 초기화
+    }
+
+    // 로그인 방식 구분: OAuth2 로그인은 registrationId, 일반 로그인은 form
+    private static String provider(Authentication authentication) {
+        if (authentication instanceof OAuth2LoginAuthenticationToken loginToken) {
+            return loginToken.getClientRegistration().getRegistrationId();
+        }
+        if (authentication instanceof OAuth2AuthenticationToken oauth2Token) {
+            return oauth2Token.getAuthorizedClientRegistrationId();
+        }
+        return LoginMetrics.PROVIDER_FORM;
+    }
+
+    // 인증 요청의 클라이언트 IP (폼 로그인은 WebAuthenticationDetails 에 기록됨)
+    private static String remoteAddress(Authentication authentication) {
+        if (authentication.getDetails() instanceof WebAuthenticationDetails details) {
+            return details.getRemoteAddress();
+        }
+        return null;
     }
 }
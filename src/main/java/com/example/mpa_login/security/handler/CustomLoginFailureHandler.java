@@ -1,12 +1,13 @@
 package com.example.mpa_login.security.handler;
 
+import com.example.mpa_login.security.crypto.PasswordHashingRejectedException;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.AuthenticationFailureHandler;
-import org.springframework.security.web.savedrequest.HttpSessionRequestCache;
 import org.springframework.security.web.savedrequest.RequestCache;
 import org.springframework.security.web.savedrequest.SavedRequest;
 
@@ -19,10 +20,11 @@ import java.io.IOException;
  * - 로그인 실패 시 호출되는 콜백 처리 클래스
  */
 @Slf4j
+@RequiredArgsConstructor
 public class CustomLoginFailureHandler implements AuthenticationFailureHandler {
 
-    // 인증 요청이 저장된 캐시에서 이전 요청을 가져오기 위한 객체
-    private RequestCache requestCache = new HttpSessionRequestCache();
+    // 인증 요청이 저장된 캐시에서 이전 요청을 가져오기 위한 객체 (세션 모드: HttpSessionRequestCache, 무상태 모드: NullRequestCache)
+    private final RequestCache requestCache;
 
     // 로그인 실패 시 자동으로 호출되는 메서드
     @Override
@@ -32,7 +34,14 @@ public class CustomLoginFailureHandler implements AuthenticationFailureHandler {
     ) throws IOException, ServletException {
 
         // 로그인 실패 예외를 로그로 출력
-        log.info("onAuthenticationFailure exception " + exception);
+        log.debug("onAuthenticationFailure exception {}", exception.toString());
+
+        // 비밀번호 해시 풀이 포화 상태면 재시도 안내와 함께 503 응답
+        if (exception instanceof PasswordHashingRejectedException) {
+            response.setHeader("Retry-After", "1");
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
 
         // 사용자가 원래 가려던 요청 정보 가져오기
         SavedRequest savedRequest = requestCache.getRequest(request, response);
@@ -41,10 +50,14 @@ public class CustomLoginFailureHandler implements AuthenticationFailureHandler {
             String targetUrl = savedRequest.getRedirectUrl(); // 원래 요청한 URL
 
             // 실패 시 리다이렉트할 URL 로그 출력
-            log.info("Login Failure targetUrl = " + targetUrl);
+            log.debug("Login Failure targetUrl = {}", targetUrl);
 
             // 사용자가 가려던 URL로 리다이렉트 (로그인 실패 후에도 이동)
             response.sendRedirect(targetUrl);
+            return;
         }
+
+        // 저장된 요청이 없으면 로그인 페이지에 오류 표시
+        response.sendRedirect(request.getContextPath() + "/login?error");
     }
 }
@@ -1,10 +1,17 @@
 package com.example.mpa_login.security.handler;
 
+import com.example.mpa_login.security.LoginMetrics;
+import com.example.mpa_login.security.model.CustomUser;
+import com.example.mpa_login.security.token.AuthTokenService;
+import com.example.mpa_login.user.LastLoginTracker;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 
 import java.io.IOException;
@@ -12,12 +19,17 @@ import java.io.IOException;
 /**
  * 로그인 성공 시 실행되는 커스텀 핸들러 클래스
  * - 로그인 성공 이후 어떤 후속 작업을 할지 정의
- * - 마지막 로그인 시간을 DB에 기록, 특정 사용자 권한에 따라 다른 페이지로 리다이렉트
+ * - 마지막 로그인 시간 기록 (LastLoginTracker 가 모아서 주기적으로 DB 반영), 특정 사용자 권한에 따라 다른 페이지로 리다이렉트
  * - 토큰(JWT)을 발급해서 응답에 포함
  */
 @Slf4j
+@RequiredArgsConstructor
 public class CustomLoginSuccessHandler implements AuthenticationSuccessHandler {
 
+    private final LoginMetrics loginMetrics; // 로그인 단계별 소요 시간 측정
+    private final AuthTokenService authTokenService; // 무상태 모드의 인증 쿠키 발급 (세션 모드에서는 null)
+    private final LastLoginTracker lastLoginTracker; // 마지막 로그인 시각, 횟수 기록
+
     // 로그인 성공 시 자동 호출되는 메서드
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, // 클라이언트 요청 객체
@@ -25,9 +37,34 @@ public class CustomLoginSuccessHandler implements AuthenticationSuccessHandler {
                                         Authentication authentication // 인증된 사용자 정보
     ) throws IOException, ServletException {
 
-        log.info("onAuthenticationSuccess"); // 성공 로그 출력
+        Timer.Sample sample = loginMetrics.start();
+        String provider = provider(authentication);
+        log.debug("onAuthenticationSuccess provider = {}", provider); // 성공 로그 출력
+
+        String outcome = LoginMetrics.OUTCOME_FAILURE;
+        try {
+            if (authentication.getPrincipal() instanceof CustomUser customUser) {
+                lastLoginTracker.recordLogin(customUser.getUserId()); // 메모리에만 기록 (DB 반영은 주기적으로)
+
+                // 무상태 모드: 세션 대신 서명된 인증 쿠키 발급
+                if (authTokenService != null) {
+                    authTokenService.writeCookie(request, response, customUser);
+                }
+            }
+
+            String targetUrl = "/todos"; // 로그인 성공 후 이동할 기본 URL 설정
+            response.sendRedirect(targetUrl); // 해당 URL로 리다이렉트
+            outcome = LoginMetrics.OUTCOME_SUCCESS;
+        } finally {
+            loginMetrics.stop(sample, LoginMetrics.STAGE_SUCCESS_HANDLER, provider, outcome);
+        }
+    }
 
-        String targetUrl = "/todos"; // 로그인 성공 후 이동할 기본 URL 설정
-        response.sendRedirect(targetUrl); // 해당 URL로 리다이렉트
+    // 로그인 방식 구분: OAuth2 로그인은 registrationId(google, kakao 등), 일반 로그인은 form
+    private String provider(Authentication authentication) {
+        if (authentication instanceof OAuth2AuthenticationToken oauth2Token) {
+            return oauth2Token.getAuthorizedClientRegistrationId();
+        }
+        return LoginMetrics.PROVIDER_FORM;
     }
 }
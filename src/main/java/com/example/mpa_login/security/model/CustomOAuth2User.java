@@ -7,7 +7,7 @@ import java.util.Collection;
 
 /**
  * OAuth 로그인 처리 후 OAuth2UserService에서 CustomOAuth2User class 생성
- OAuthAttributes attributes = OAuthAttributes.of(...); // 사용자 정보 매핑
+ OAuthAttributes attributes = oauthAttributeExtractors.get(registrationId).extract(...); // 사용자 정보 매핑
  CustomOAuth2User user - new CustomOAuth2User (
  userId, email, nickname, authorities, attributes)
  */
@@ -5,7 +5,14 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -14,34 +21,55 @@ import java.util.Map;
  * OAuth2User: OAuth2 로그인 사용자 정보 제공
  * 사용 예시: 로그인 후 컨트롤러에서 사용자 정보를 가져올 때
  *          @AuthenticationPrincipal CustomUser customUser
+ * # 세션 크기 최소화
+ * - 제공자 응답 전체(attributes)를 보관하지 않고 애플리케이션이 쓰는 값(식별 키, id, 이름, 이메일, 사진)만 보관
+ * - attributes 는 필요할 때 위 값으로 다시 만들고, 직렬화하지 않음
+ * - 권한 목록은 UserAuthorities 의 공유 인스턴스를 사용하고, 직렬화 시 권한 이름만 기록
+ * - 비밀번호 해시는 직렬화하지 않음 (세션에서 복원된 객체의 password 는 null)
  */
 @Getter
 public class CustomUser implements UserDetails, OAuth2User {
 
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
 
-    private Long userId; // DB의 사용자 고유 ID
-    private String username; // 사용자명 (email로 사용)
-    private String password; // 일반 로그인 사용자만 사용 (OAuth2는 null)
-    private Collection<? extends GrantedAuthority> authorities; // 사용자 권한 목록
-    private Map<String, Object> attributes; // OAuth2에서 전달된 사용자 정보
+    private final Long userId; // DB의 사용자 고유 ID
+    private final String username; // 사용자명 (email로 사용)
+    private final transient String password; // 일반 로그인 사용자만 사용 (OAuth2는 null), 인증 후에는 필요 없으므로 세션에 저장하지 않음
+    private transient Collection<? extends GrantedAuthority> authorities; // 사용자 권한 목록 (공유 인스턴스)
+
+    // OAuth2 로그인 사용자만 사용 (일반 로그인은 null)
+    private final String nameAttributeKey; // OAuth 사용자 식별 키 (예: sub, id)
+    private final String socialId; // 제공자의 사용자 고유 ID
+    private final String displayName; // 사용자 이름 (getName() 은 username 을 반환하므로 별도 이름 사용)
+    private final String email; // 제공자가 전달한 이메일
+    private final String picture; // 프로필 사진 URL
+
+    private transient Map<String, Object> attributes; // OAuth2 사용자 정보 (필요 시 생성)
 
     // 일반 로그인 사용자를 위한 생성자
     public CustomUser(Long userId, String username, String password, Collection<? extends GrantedAuthority> authorities) {
         this.userId = userId;
         this.username = username;
         this.password = password;
-        this.authorities = authorities;
-        this.attributes = null;
+        this.authorities = UserAuthorities.intern(authorities);
+        this.nameAttributeKey = null;
+        this.socialId = null;
+        this.displayName = null;
+        this.email = null;
+        this.picture = null;
     }
 
-    // OAuth2 로그인 사용자를 위한 생성자
+    // OAuth2 로그인 사용자를 위한 생성자: 제공자 응답에서 필요한 값만 보관
     public CustomUser(Long userId, String username, Collection<? extends GrantedAuthority> authorities, OAuthAttributes oAuthAttributes) {
         this.userId = userId;
         this.username = username;
-        this.authorities = authorities;
-        this.attributes = oAuthAttributes.getAttributes();
         this.password = null;
+        this.authorities = UserAuthorities.intern(authorities);
+        this.nameAttributeKey = oAuthAttributes.getNameAttributeKey();
+        this.socialId = oAuthAttributes.getId();
+        this.displayName = oAuthAttributes.getName();
+        this.email = oAuthAttributes.getEmail();
+        this.picture = oAuthAttributes.getPicture();
     }
 
     @Override
@@ -49,9 +77,26 @@ public class CustomUser implements UserDetails, OAuth2User {
         return username; // OAuth2User에서 사용하는 고유 사용자명 반환 (Spring Security용)
     }
 
+    // OAuth2 사용자 정보 반환: 보관한 값으로 평탄한 Map 을 만들어 재사용 (일반 로그인은 빈 Map)
     @Override
     public Map<String, Object> getAttributes() {
-        return attributes; // OAuth2 사용자 정보 반환
+        Map<String, Object> result = attributes;
+        if (result == null) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            putIfNotNull(map, nameAttributeKey, socialId);
+            putIfNotNull(map, "name", displayName);
+            putIfNotNull(map, "email", email);
+            putIfNotNull(map, "picture", picture);
+            result = Collections.unmodifiableMap(map);
+            attributes = result; // 동시에 만들어져도 내용이 같으므로 경쟁 상태 무해
+        }
+        return result;
+    }
+
+    private static void putIfNotNull(Map<String, Object> map, String key, Object value) {
+        if (key != null && value != null) {
+            map.put(key, value);
+        }
     }
 
     @Override
@@ -88,4 +133,24 @@ public class CustomUser implements UserDetails, OAuth2User {
     public boolean isEnabled() {
         return true; // 계저이 활성화되어 있음을 명시
     }
+
+    // 직렬화: 권한 객체 대신 권한 이름만 기록
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(authorities.size());
+        for (GrantedAuthority authority : authorities) {
+            out.writeUTF(authority.getAuthority());
+        }
+    }
+
+    // 역직렬화: 권한 이름으로 공유 권한 목록 복원
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int size = in.readInt();
+        List<String> names = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            names.add(in.readUTF());
+        }
+        this.authorities = UserAuthorities.fromNames(names);
+    }
 }
@@ -7,6 +7,7 @@ import java.util.Map;
 
 @Getter
 // Oauth 인증 후 반환된 사용자 정보를 담는 DTO 클래스
+// 제공자별 변환은 OAuthAttributeExtractors (oauth2.attribute-mapping 설정) 에서 수행
 public class OAuthAttributes {
 
     private Map<String, Object> attributes; // OAuth 제공자로부터 전달받은 사용자 정보 전체 Map
@@ -31,126 +32,4 @@ public class OAuthAttributes {
         this.picture = picture;
         this.id = id;
     }
-
-    // OAuthAttributes 객체를 생성하는 정적 팩토리 모드: 다른 플랫폼에 따라 분기 가능
-    // registrationId: google, naver, kakao, github
-    public static OAuthAttributes of(String registrationId, String userNameAttributeName, Map<String, Object> attributes) {
-        switch (registrationId) {
-            case "google":
-                return ofGoogle(userNameAttributeName, attributes); // Google 로그인 처리
-            case "naver":
-                return ofNaver("id", attributes);
-            case "kakao":
-                return ofKakao("id", attributes);
-            default:
-                return ofGitHub("id", attributes);
-        }
-    }
-
-    /**
-     * GitHub JSON 예시:
-     * json
-     * {
-     *     "id": "123456789",
-     *     "login": "홍길동",
-     *     "email": "hong@example.com"
-     *     "avatar_url": "https://..."
-     * }
-     */
-    // Github 로그인 전용 사용자 정보 매핑 메서드
-    private static OAuthAttributes ofGitHub(String userNameAttributeName, Map<String, Object> attributes) {
-        return OAuthAttributes.builder()
-                .name((String) attributes.get("login"))
-                .email((String) attributes.get("email"))
-                .picture((String) attributes.get("avatar_url"))
-                .id("" + (Integer) attributes.get("id"))
-                .attributes(attributes)
-                .nameAttributeKey(userNameAttributeName)
-                .build();
-    }
-
-    /**
-     * Kakao JSON 예시:
-     * json
-     * {
-     *     "id": "123456789",
-     *     "kakao_account": {
-     *         "email": "hong@example.com"
-     *         "profile": {
-     *             "nickname": "홍길동",
-     *             "profile_image_url": "https://..."
-     *         }
-     *     }
-     * }
-     */
-    // kakao 사용자 정보에서 필요한 항목을 추출하여 OAuthAttributes 객체 생성
-    private static OAuthAttributes ofKakao(String userNameAttributeName, Map<String, Object> attributes) {
-        Long id = (Long) attributes.get("id"); // Kakao 사용자의 고유 ID
-
-        Map<String, Object> kakaoAccount = (Map<String, Object>) attributes.get("kakao_account"); // 계정정보
-
-        // 프로필 객체에서 이름 및 프로필 이미지 추출
-        Map<String, Object> profile = (Map<String, Object>) kakaoAccount.get("profile");
-        String nickname = (String) profile.get("nickname");
-        String profileImageUrl = (String) profile.get("profile_image_url");
-        String email = (String) kakaoAccount.get("email");
-
-        return OAuthAttributes.builder()
-                .name(nickname)
-                .email(email)
-                .picture(profileImageUrl)
-                .id("" + id)
-                .attributes(attributes)
-                .nameAttributeKey(userNameAttributeName) // 식별자 키명 설정
-                .build();
-    }
-
-    /**
-     * Naver JSON 예시:
-     * json
-     * {
-     *     "response": {
-     *         "id": "123456789",
-     *         "name": "홍길동",
-     *         "email": "hong@example.com"
-     *         "profile_image": "https://..."
-     *     }
-     * }
-     */
-    // Naver 사용자 정보에서 필요한 항목을 추출하여 OAuthAttributes 객체 생성
-    private static OAuthAttributes ofNaver(String userNameAttributeName, Map<String, Object> attributes) {
-        // Naver는 사용자 정보를 "response" 키 안에 Map 으로 감싸서 반환
-        Map<String, Object> response = (Map<String, Object>) attributes.get("response");
-
-        return OAuthAttributes.builder()
-                .name((String) response.get("name"))
-                .email((String) response.get("email"))
-                .picture((String) response.get("profile_image"))
-                .id((String) response.get(userNameAttributeName))
-                .attributes(response)
-                .nameAttributeKey(userNameAttributeName) // 식별자 키명 설정
-                .build();
-    }
-
-    /**
-     * Google JSON 예시:
-     * json
-     * {
-     *     "sub": "123456789",
-     *     "name": "홍길동",
-     *     "email": "hong@example.com"
-     *     "picture": "https://..."
-     * }
-     */
-    // Google 로그인 전용 사용자 정보 매핑 메서드
-    private static OAuthAttributes ofGoogle(String userNameAttributeName, Map<String, Object> attributes) {
-        return OAuthAttributes.builder()
-                .name((String) attributes.get("name"))
-                .email((String) attributes.get("email"))
-                .picture((String) attributes.get("picture"))
-                .id((String) attributes.get("userNameAttributeName"))
-                .attributes(attributes)
-                .nameAttributeKey(userNameAttributeName)
-                .build();
-    }
 }
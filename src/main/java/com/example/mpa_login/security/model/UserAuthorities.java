@@ -0,0 +1,45 @@
+package com.example.mpa_login.security.model;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자 권한 목록 공유(intern)
+ * - 모든 사용자가 가진 ROLE_USER 권한 목록을 하나의 불변 인스턴스로 공유하여 로그인마다 목록을 새로 만들지 않음
+ * - 세션 역직렬화 시에도 같은 인스턴스로 되돌려 세션 수만큼 중복 객체가 쌓이지 않게 함
+ */
+public final class UserAuthorities {
+
+    public static final String ROLE_USER = "ROLE_USER";
+
+    // 일반 사용자 권한 목록 (불변, 전체 공유)
+    public static final List<GrantedAuthority> USER = List.of(new SimpleGrantedAuthority(ROLE_USER));
+
+    private UserAuthorities() {
+    }
+
+    // 공유 가능한 권한 목록이면 공유 인스턴스를, 아니면 불변 복사본을 반환
+    public static List<GrantedAuthority> intern(Collection<? extends GrantedAuthority> authorities) {
+        if (authorities.size() == 1 && ROLE_USER.equals(authorities.iterator().next().getAuthority())) {
+            return USER;
+        }
+        return List.copyOf(authorities);
+    }
+
+    // 권한 이름 목록으로부터 권한 목록 복원 (토큰, 세션 역직렬화용)
+    public static List<GrantedAuthority> fromNames(Collection<String> names) {
+        if (names.size() == 1 && ROLE_USER.equals(names.iterator().next())) {
+            return USER;
+        }
+
+        List<GrantedAuthority> authorities = new ArrayList<>(names.size());
+        for (String name : names) {
+            authorities.add(new SimpleGrantedAuthority(name));
+        }
+        return List.copyOf(authorities);
+    }
+}
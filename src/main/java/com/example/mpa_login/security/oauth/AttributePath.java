@@ -0,0 +1,45 @@
+package com.example.mpa_login.security.oauth;
+
+import java.util.Map;
+
+/**
+ * 미리 분해해 둔 user-info 속성 경로 (예: "kakao_account.profile.nickname")
+ * - 설정 값을 로그인마다 파싱하지 않도록 생성 시 한 번만 '.' 기준으로 분리
+ * - 중간 값이 Map 이 아니거나 없으면 null, 숫자 ID 등 문자열이 아닌 값은 문자열로 변환
+ */
+final class AttributePath {
+
+    private static final AttributePath EMPTY = new AttributePath(new String[0]);
+
+    private final String[] segments;
+
+    private AttributePath(String[] segments) {
+        this.segments = segments;
+    }
+
+    static AttributePath compile(String expression) {
+        if (expression == null || expression.isBlank()) {
+            return EMPTY;
+        }
+        return new AttributePath(expression.trim().split("\\."));
+    }
+
+    String read(Map<String, Object> attributes) {
+        if (segments.length == 0) {
+            return null;
+        }
+
+        Object current = attributes;
+        for (String segment : segments) {
+            if (!(current instanceof Map<?, ?> map)) {
+                return null;
+            }
+            current = map.get(segment);
+        }
+
+        if (current == null) {
+            return null;
+        }
+        return current instanceof String value ? value : String.valueOf(current);
+    }
+}
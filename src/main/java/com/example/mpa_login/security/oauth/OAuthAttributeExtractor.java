@@ -0,0 +1,37 @@
+package com.example.mpa_login.security.oauth;
+
+import com.example.mpa_login.security.model.OAuthAttributes;
+
+import java.util.Map;
+
+/**
+ * 제공자 하나의 user-info 응답을 OAuthAttributes 로 변환하는 추출기 (경로는 미리 분해되어 있음)
+ */
+public final class OAuthAttributeExtractor {
+
+    private final String nameAttributeKey; // null 이면 ClientRegistration 의 user-name-attribute 사용
+    private final AttributePath id;
+    private final AttributePath name;
+    private final AttributePath email;
+    private final AttributePath picture;
+
+    OAuthAttributeExtractor(OAuthAttributeMappingProperties.Mapping mapping) {
+        String key = mapping.getNameAttributeKey();
+        this.nameAttributeKey = key == null || key.isBlank() ? null : key.trim();
+        this.id = AttributePath.compile(mapping.getId());
+        this.name = AttributePath.compile(mapping.getName());
+        this.email = AttributePath.compile(mapping.getEmail());
+        this.picture = AttributePath.compile(mapping.getPicture());
+    }
+
+    public OAuthAttributes extract(String userNameAttributeName, Map<String, Object> attributes) {
+        return OAuthAttributes.builder()
+                .id(id.read(attributes))
+                .name(name.read(attributes))
+                .email(email.read(attributes))
+                .picture(picture.read(attributes))
+                .attributes(attributes)
+                .nameAttributeKey(nameAttributeKey != null ? nameAttributeKey : userNameAttributeName)
+                .build();
+    }
+}
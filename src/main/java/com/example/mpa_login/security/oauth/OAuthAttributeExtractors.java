@@ -0,0 +1,46 @@
+package com.example.mpa_login.security.oauth;
+
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * registrationId 별 사용자 정보 추출기 목록
+ * - 설정(OAuthAttributeMappingProperties)의 매핑을 시작 시 한 번만 추출기로 만들어 보관
+ * - 매핑이 없는 제공자로 로그인하면 다른 제공자 규칙을 적용하지 않고 즉시 실패
+ */
+public class OAuthAttributeExtractors {
+
+    public static final String UNSUPPORTED_PROVIDER = "unsupported_provider";
+
+    private final Map<String, OAuthAttributeExtractor> extractors;
+
+    public OAuthAttributeExtractors(Map<String, OAuthAttributeMappingProperties.Mapping> mappings) {
+        Map<String, OAuthAttributeExtractor> compiled = new HashMap<>();
+        mappings.forEach((registrationId, mapping) -> compiled.put(registrationId, new OAuthAttributeExtractor(mapping)));
+        this.extractors = Map.copyOf(compiled);
+    }
+
+    // 로그인 시 registrationId 로 추출기 조회 (없으면 OAuth2 로그인 실패 처리)
+    public OAuthAttributeExtractor get(String registrationId) {
+        OAuthAttributeExtractor extractor = extractors.get(registrationId);
+        if (extractor == null) {
+            throw new OAuth2AuthenticationException(new OAuth2Error(UNSUPPORTED_PROVIDER,
+                    "No attribute mapping for OAuth2 provider: " + registrationId, null));
+        }
+        return extractor;
+    }
+
+    // 등록된 모든 ClientRegistration 에 매핑이 있는지 시작 시 확인
+    public void verifyCovers(Iterable<ClientRegistration> registrations) {
+        for (ClientRegistration registration : registrations) {
+            if (!extractors.containsKey(registration.getRegistrationId())) {
+                throw new IllegalStateException("Missing oauth2.attribute-mapping.providers."
+                        + registration.getRegistrationId() + " for the configured OAuth2 client");
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.mpa_login.security.oauth;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 소셜 로그인 제공자별 사용자 정보 매핑 설정 (oauth2.attribute-mapping.providers.{registrationId}.*)
+ * - 값은 user-info 응답에서의 경로 (중첩 객체는 '.' 으로 구분, 예: kakao_account.profile.nickname)
+ * - 새 제공자는 spring.security.oauth2.client.registration 과 함께 매핑만 추가하면 코드 변경 없이 사용 가능
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "oauth2.attribute-mapping")
+public class OAuthAttributeMappingProperties {
+
+    private Map<String, Mapping> providers = new LinkedHashMap<>(); // registrationId -> 매핑
+
+    @Getter
+    @Setter
+    public static class Mapping {
+        private String nameAttributeKey; // 사용자 식별 키 (비어 있으면 ClientRegistration 의 user-name-attribute 사용)
+        private String id; // 제공자의 사용자 고유 ID 경로
+        private String name; // 사용자 이름 경로
+        private String email; // 이메일 경로
+        private String picture; // 프로필 사진 경로
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.mpa_login.security.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 폼 로그인 요청(POST /login)을 사용자 조회, 비밀번호 해시 비교 이전에 제한하는 필터
+ * - UsernamePasswordAuthenticationFilter 앞에 등록
+ * - 제한된 요청은 429 (Too Many Requests) 와 Retry-After 로 응답
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String LOGIN_PATH = "/login"; // 폼 로그인 처리 URL
+
+    private final LoginRateLimiter loginRateLimiter;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || !(request.getContextPath() + LOGIN_PATH).equals(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String username = request.getParameter("username");
+        String ip = request.getRemoteAddr();
+
+        if (loginRateLimiter.isBlocked(username, ip)) {
+            log.debug("Login rate limited username = {}, ip = {}", username, ip);
+            response.setHeader("Retry-After", String.valueOf(loginRateLimiter.retryAfter().toSeconds()));
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value()); // Servlet 6.0 에는 SC_TOO_MANY_REQUESTS 상수가 없음
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.mpa_login.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 폼 로그인 실패 횟수 기반 요청 제한 (username, 클라이언트 IP 각각)
+ * - 최근 window 동안의 실패 횟수(슬라이딩 윈도우 추정치)가 기준 이상이면 로그인 요청 차단
+ * - 차단 여부 확인은 LoginRateLimitFilter 에서 사용자 조회, 비밀번호 해시 비교 이전에 수행
+ * - 실패 기록은 AuthenticationFailureBadCredentialsEvent, 성공 시 username 의 실패 횟수 초기화
+ * - 키별 카운터는 Caffeine 에 보관하며 window 동안 접근이 없으면 제거, 최대 키 수 제한
+ * - 지표: login.rate_limit.rejected (key=username / ip), login.rate_limit.keys
+ */
+@Component
+public class LoginRateLimiter {
+
+    public static final String KEY_USERNAME = "username";
+    public static final String KEY_IP = "ip";
+
+    private final boolean enabled;
+    private final int usernameMaxFailures;
+    private final int ipMaxFailures;
+    private final long windowMillis;
+
+    private final Cache<String, SlidingWindowCounter> usernameFailures;
+    private final Cache<String, SlidingWindowCounter> ipFailures;
+
+    private final Counter rejectedByUsername;
+    private final Counter rejectedByIp;
+
+    public LoginRateLimiter(MeterRegistry meterRegistry,
+                            @Value("${security.login-rate-limit.enabled:true}") boolean enabled,
+                            @Value("${security.login-rate-limit.username-max-failures:5}") int usernameMaxFailures,
+                            @Value("${security.login-rate-limit.ip-max-failures:50}") int ipMaxFailures,
+                            @Value("${security.login-rate-limit.window:15m}") Duration window,
+                            @Value("${security.login-rate-limit.max-keys:100000}") long maxKeys) {
+        this.enabled = enabled;
+        this.usernameMaxFailures = usernameMaxFailures;
+        this.ipMaxFailures = ipMaxFailures;
+        this.windowMillis = window.toMillis();
+
+        // 직전 구간까지 참조하므로 window 의 두 배 동안 접근이 없으면 제거
+        this.usernameFailures = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(window.multipliedBy(2))
+                .build();
+        this.ipFailures = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(window.multipliedBy(2))
+                .build();
+
+        this.rejectedByUsername = Counter.builder("login.rate_limit.rejected").tag("key", KEY_USERNAME)
+                .register(meterRegistry);
+        this.rejectedByIp = Counter.builder("login.rate_limit.rejected").tag("key", KEY_IP)
+                .register(meterRegistry);
+        Gauge.builder("login.rate_limit.keys", this,
+                        limiter -> limiter.usernameFailures.estimatedSize() + limiter.ipFailures.estimatedSize())
+                .register(meterRegistry);
+    }
+
+    // 로그인 요청 차단 여부 확인 (차단 시 원인을 지표에 기록하고 true)
+    public boolean isBlocked(String username, String ip) {
+        if (!enabled) {
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        if (ip != null && exceeds(ipFailures.getIfPresent(ip), now, ipMaxFailures)) {
+            rejectedByIp.increment();
+            return true;
+        }
+        if (username != null && exceeds(usernameFailures.getIfPresent(normalize(username)), now, usernameMaxFailures)) {
+            rejectedByUsername.increment();
+            return true;
+        }
+        return false;
+    }
+
+    // 로그인 실패 기록
+    public void recordFailure(String username, String ip) {
+        if (!enabled) {
+            return;
+        }
+
+        long window = System.currentTimeMillis() / windowMillis;
+        if (username != null) {
+            usernameFailures.get(normalize(username), key -> new SlidingWindowCounter()).increment(window);
+        }
+        if (ip != null) {
+            ipFailures.get(ip, key -> new SlidingWindowCounter()).increment(window);
+        }
+    }
+
+    // 로그인 성공 시 username 실패 횟수 초기화 (IP 는 다른 계정 시도가 섞일 수 있으므로 유지)
+    public void reset(String username) {
+        if (!enabled || username == null) {
+            return;
+        }
+
+        SlidingWindowCounter counter = usernameFailures.getIfPresent(normalize(username));
+        if (counter != null) {
+            counter.reset();
+        }
+    }
+
+    // 차단된 요청에 안내할 재시도 대기 시간
+    public Duration retryAfter() {
+        return Duration.ofMillis(windowMillis);
+    }
+
+    private boolean exceeds(SlidingWindowCounter counter, long now, int maxFailures) {
+        if (counter == null) {
+            return false;
+        }
+
+        long window = now / windowMillis;
+        double elapsedFraction = (now % windowMillis) / (double) windowMillis;
+        return counter.estimate(window, elapsedFraction) >= maxFailures;
+    }
+
+    // 대소문자만 다른 username 으로 제한을 우회하지 못하도록 정규화
+    private static String normalize(String username) {
+        return username.trim().toLowerCase(Locale.ROOT);
+    }
+}
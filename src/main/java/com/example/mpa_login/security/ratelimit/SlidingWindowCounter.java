@@ -0,0 +1,53 @@
+package com.example.mpa_login.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 락 없는 슬라이딩 윈도우 카운터 (키 하나당 하나)
+ * - 현재 구간과 직전 구간 두 칸만 유지하고, 직전 구간 값은 현재 구간 경과 비율만큼 줄여서 합산
+ * - 각 칸은 (구간 번호 << 20 | 횟수) 하나의 long 으로 저장하여 CAS 한 번으로 갱신
+ *   (구간이 바뀐 칸은 다음 증가 시 새 구간 번호와 1로 덮어씀)
+ */
+final class SlidingWindowCounter {
+
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final AtomicLongArray slots = new AtomicLongArray(2);
+
+    // 구간(window)의 횟수 1 증가
+    void increment(long window) {
+        int index = (int) (window & 1);
+        while (true) {
+            long current = slots.get(index);
+            long next;
+            if ((current >>> COUNT_BITS) == window) {
+                if ((current & COUNT_MASK) == COUNT_MASK) { // 상한 도달: 더 세지 않음
+                    return;
+                }
+                next = current + 1;
+            } else {
+                next = (window << COUNT_BITS) | 1;
+            }
+
+            if (slots.compareAndSet(index, current, next)) {
+                return;
+            }
+        }
+    }
+
+    // 슬라이딩 윈도우 추정 횟수: 현재 구간 횟수 + 직전 구간 횟수 * (1 - 현재 구간 경과 비율)
+    double estimate(long window, double elapsedFraction) {
+        return count(window) + count(window - 1) * (1.0 - elapsedFraction);
+    }
+
+    void reset() {
+        slots.set(0, 0);
+        slots.set(1, 0);
+    }
+
+    private long count(long window) {
+        long value = slots.get((int) (window & 1));
+        return (value >>> COUNT_BITS) == window ? value & COUNT_MASK : 0;
+    }
+}
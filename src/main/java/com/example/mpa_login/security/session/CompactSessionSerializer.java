@@ -0,0 +1,187 @@
+package com.example.mpa_login.security.session;
+
+import com.example.mpa_login.security.model.CustomUser;
+import com.example.mpa_login.security.model.OAuthAttributes;
+import com.example.mpa_login.security.model.UserAuthorities;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 세션 속성 직렬화기 (외부 세션 저장소용)
+ * - 로그인 사용자(SecurityContext + CustomUser)는 필요한 값만 바이너리로 기록 (클래스 정보, 필드명 없음)
+ * - 그 외 속성(CSRF 토큰, 저장된 요청, OAuth2 인가 요청 등)은 기존과 같이 Java 직렬화
+ * - 첫 바이트로 형식을 구분하므로 두 형식이 한 저장소에 섞여 있어도 읽을 수 있음
+ * # 압축 형식 (FORMAT_SECURITY_CONTEXT)
+ * - 인증 종류(form / oauth2 + registrationId), userId, username, 권한 이름 목록, OAuth 값(식별 키, id, 이름, 이메일, 사진)
+ * - 인증 상세(WebAuthenticationDetails: 원격 주소, 세션 ID)는 저장하지 않음
+ */
+public class CompactSessionSerializer {
+
+    private static final byte FORMAT_JAVA = 0; // Java 직렬화
+    private static final byte FORMAT_SECURITY_CONTEXT = 1; // 로그인 사용자 압축 형식
+
+    private static final byte AUTH_FORM = 0; // UsernamePasswordAuthenticationToken
+    private static final byte AUTH_OAUTH2 = 1; // OAuth2AuthenticationToken
+
+    private final SerializingConverter javaSerializer = new SerializingConverter();
+    private final DeserializingConverter javaDeserializer;
+
+    public CompactSessionSerializer(ClassLoader classLoader) {
+        this.javaDeserializer = new DeserializingConverter(classLoader);
+    }
+
+    public byte[] serialize(Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            Authentication authentication = compactAuthentication(value);
+            if (authentication != null) {
+                out.writeByte(FORMAT_SECURITY_CONTEXT);
+                writeAuthentication(out, authentication);
+            } else {
+                out.writeByte(FORMAT_JAVA);
+                out.write(javaSerializer.convert(value));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public Object deserialize(byte[] bytes) {
+        if (bytes[0] == FORMAT_JAVA) {
+            byte[] payload = new byte[bytes.length - 1];
+            System.arraycopy(bytes, 1, payload, 0, payload.length);
+            return javaDeserializer.convert(payload);
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+            return new SecurityContextImpl(readAuthentication(in));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 압축 형식으로 기록할 수 있는 SecurityContext 이면 그 Authentication 반환, 아니면 null (Java 직렬화)
+    private Authentication compactAuthentication(Object value) {
+        if (value == null || value.getClass() != SecurityContextImpl.class) {
+            return null;
+        }
+
+        Authentication authentication = ((SecurityContextImpl) value).getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUser user)) {
+            return null;
+        }
+
+        Class<?> type = authentication.getClass();
+        if (type != UsernamePasswordAuthenticationToken.class && type != OAuth2AuthenticationToken.class) {
+            return null;
+        }
+
+        // 토큰 권한과 사용자 권한이 같을 때만 (권한 목록을 한 번만 기록)
+        if (!sameAuthorities(authentication.getAuthorities(), user.getAuthorities())) {
+            return null;
+        }
+        return authentication;
+    }
+
+    private void writeAuthentication(DataOutputStream out, Authentication authentication) throws IOException {
+        CustomUser user = (CustomUser) authentication.getPrincipal();
+
+        if (authentication instanceof OAuth2AuthenticationToken oauth2Token) {
+            out.writeByte(AUTH_OAUTH2);
+            out.writeUTF(oauth2Token.getAuthorizedClientRegistrationId());
+        } else {
+            out.writeByte(AUTH_FORM);
+        }
+
+        out.writeLong(user.getUserId());
+        out.writeUTF(user.getUsername());
+
+        Collection<? extends GrantedAuthority> authorities = user.getAuthorities();
+        out.writeShort(authorities.size());
+        for (GrantedAuthority authority : authorities) {
+            out.writeUTF(authority.getAuthority());
+        }
+
+        writeNullable(out, user.getNameAttributeKey());
+        writeNullable(out, user.getSocialId());
+        writeNullable(out, user.getDisplayName());
+        writeNullable(out, user.getEmail());
+        writeNullable(out, user.getPicture());
+    }
+
+    private Authentication readAuthentication(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        String registrationId = type == AUTH_OAUTH2 ? in.readUTF() : null;
+
+        long userId = in.readLong();
+        String username = in.readUTF();
+
+        int size = in.readShort();
+        List<String> names = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            names.add(in.readUTF());
+        }
+        List<GrantedAuthority> authorities = UserAuthorities.fromNames(names);
+
+        OAuthAttributes oAuthAttributes = OAuthAttributes.builder()
+                .nameAttributeKey(readNullable(in))
+                .id(readNullable(in))
+                .name(readNullable(in))
+                .email(readNullable(in))
+                .picture(readNullable(in))
+                .build();
+
+        if (type == AUTH_OAUTH2) {
+            CustomUser user = new CustomUser(userId, username, authorities, oAuthAttributes);
+            return new OAuth2AuthenticationToken(user, authorities, registrationId);
+        }
+
+        CustomUser user = new CustomUser(userId, username, null, authorities);
+        return UsernamePasswordAuthenticationToken.authenticated(user, null, authorities);
+    }
+
+    private static boolean sameAuthorities(Collection<? extends GrantedAuthority> left,
+                                           Collection<? extends GrantedAuthority> right) {
+        if (left.size() != right.size()) {
+            return false;
+        }
+
+        List<String> rightNames = new ArrayList<>(right.size());
+        for (GrantedAuthority authority : right) {
+            rightNames.add(authority.getAuthority());
+        }
+        for (GrantedAuthority authority : left) {
+            if (!rightNames.contains(authority.getAuthority())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.mpa_login.security.token;
+
+import com.example.mpa_login.security.model.CustomUser;
+import com.example.mpa_login.security.model.UserAuthorities;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 무상태(stateless) 모드에서 인증 정보를 서명된 쿠키로 주고받는 서비스
+ * - HttpSession 대신 쿠키에 사용자 ID, 사용자명, 권한, 만료 시각만 담음
+ * - 요청마다 서명과 만료 시각만 확인하므로 DB 조회나 세션 저장소가 필요 없음
+ * - payload 형식: userId|만료(epoch seconds)|권한1,권한2|username
+ */
+public class AuthTokenService {
+
+    public static final String COOKIE_NAME = "AUTH_TOKEN";
+
+    private final SignedTokenCodec codec; // 서명/검증
+    private final Duration ttl; // 토큰 유효 시간
+
+    public AuthTokenService(SignedTokenCodec codec, Duration ttl) {
+        this.codec = codec;
+        this.ttl = ttl;
+    }
+
+    // 로그인 성공 시 인증 쿠키 발급
+    public void writeCookie(HttpServletRequest request, HttpServletResponse response, CustomUser user) {
+        addCookie(request, response, issue(user), ttl);
+    }
+
+    // 로그아웃 등에서 인증 쿠키 삭제
+    public void clearCookie(HttpServletRequest request, HttpServletResponse response) {
+        addCookie(request, response, "", Duration.ZERO);
+    }
+
+    // 요청의 인증 쿠키를 검증하여 사용자 정보 복원 (없거나 유효하지 않으면 null)
+    public CustomUser readCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                return parse(cookie.getValue());
+            }
+        }
+        return null;
+    }
+
+    // 사용자 정보를 서명된 토큰 문자열로 변환
+    String issue(CustomUser user) {
+        StringBuilder roles = new StringBuilder();
+        for (GrantedAuthority authority : user.getAuthorities()) {
+            if (!roles.isEmpty()) {
+                roles.append(',');
+            }
+            roles.append(authority.getAuthority());
+        }
+
+        long expiresAt = System.currentTimeMillis() / 1000 + ttl.toSeconds();
+        String payload = user.getUserId() + "|" + expiresAt + "|" + roles + "|" + user.getUsername();
+        return codec.sign(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 토큰 문자열을 검증하여 사용자 정보 복원 (서명 불일치, 만료, 형식 오류 시 null)
+    CustomUser parse(String token) {
+        byte[] payload = codec.verify(token);
+        if (payload == null) {
+            return null;
+        }
+
+        String[] parts = new String(payload, StandardCharsets.UTF_8).split("\\|", 4);
+        if (parts.length != 4) {
+            return null;
+        }
+
+        try {
+            long expiresAt = Long.parseLong(parts[1]);
+            if (expiresAt < System.currentTimeMillis() / 1000) { // 만료된 토큰
+                return null;
+            }
+
+            List<String> roles = new ArrayList<>();
+            for (String role : parts[2].split(",")) {
+                if (!role.isEmpty()) {
+                    roles.add(role);
+                }
+            }
+
+            return new CustomUser(Long.parseLong(parts[0]), parts[3], null, UserAuthorities.fromNames(roles));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // HttpOnly, SameSite=Lax 쿠키 추가 (HTTPS 요청이면 Secure)
+    private void addCookie(HttpServletRequest request, HttpServletResponse response, String value, Duration maxAge) {
+        ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, value)
+                .path("/")
+                .httpOnly(true)
+                .secure(request.isSecure())
+                .sameSite("Lax")
+                .maxAge(maxAge)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+}
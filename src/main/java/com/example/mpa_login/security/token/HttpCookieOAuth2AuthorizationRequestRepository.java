@@ -0,0 +1,99 @@
+package com.example.mpa_login.security.token;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Duration;
+
+/**
+ * 무상태(stateless) 모드에서 OAuth2 인가 요청(state 등)을 세션 대신 서명된 쿠키에 보관하는 저장소
+ * - 소셜 로그인 리다이렉트 전후로 같은 노드에 도착하지 않아도 로그인 가능
+ * - 서명이 확인된 쿠키만 역직렬화하므로 변조된 값은 무시
+ */
+public class HttpCookieOAuth2AuthorizationRequestRepository
+        implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
+
+    private static final String COOKIE_NAME = "OAUTH2_AUTH_REQUEST";
+    private static final Duration MAX_AGE = Duration.ofMinutes(3); // 제공자 로그인 화면에 머무를 수 있는 시간
+
+    private final SignedTokenCodec codec;
+
+    public HttpCookieOAuth2AuthorizationRequestRepository(SignedTokenCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                byte[] payload = codec.verify(cookie.getValue());
+                return payload == null ? null : deserialize(payload);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void saveAuthorizationRequest(OAuth2AuthorizationRequest authorizationRequest,
+                                         HttpServletRequest request,
+                                         HttpServletResponse response) {
+        if (authorizationRequest == null) {
+            addCookie(request, response, "", Duration.ZERO);
+            return;
+        }
+
+        addCookie(request, response, codec.sign(serialize(authorizationRequest)), MAX_AGE);
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request,
+                                                                 HttpServletResponse response) {
+        OAuth2AuthorizationRequest authorizationRequest = loadAuthorizationRequest(request);
+        addCookie(request, response, "", Duration.ZERO); // 한 번 사용한 인가 요청은 삭제
+        return authorizationRequest;
+    }
+
+    private void addCookie(HttpServletRequest request, HttpServletResponse response, String value, Duration maxAge) {
+        ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, value)
+                .path("/")
+                .httpOnly(true)
+                .secure(request.isSecure())
+                .sameSite("Lax") // 제공자에서 돌아오는 top-level GET 리다이렉트에는 전송됨
+                .maxAge(maxAge)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    private byte[] serialize(OAuth2AuthorizationRequest authorizationRequest) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(authorizationRequest);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot serialize OAuth2 authorization request", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private OAuth2AuthorizationRequest deserialize(byte[] payload) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(payload))) {
+            return (OAuth2AuthorizationRequest) in.readObject();
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.mpa_login.security.token;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * HMAC-SHA256 으로 서명된 토큰을 만들고 검증하는 클래스
+ * - 토큰 형식: base64url(payload) + "." + base64url(signature)
+ * - 키로 초기화한 Mac 을 한 번만 만들어 두고 요청마다 clone 해서 사용 (키 준비 비용 없음)
+ */
+public class SignedTokenCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key; // 서명 키
+    private final Mac prototype; // 키로 초기화된 Mac (복제용 원본)
+
+    public SignedTokenCodec(String secret) {
+        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (secretBytes.length < 32) { // HMAC-SHA256 키는 최소 256bit 권장
+            throw new IllegalStateException("Token secret must be at least 32 bytes");
+        }
+        this.key = new SecretKeySpec(secretBytes, ALGORITHM);
+        this.prototype = newMac();
+    }
+
+    // payload 에 서명하여 토큰 문자열 생성
+    public String sign(byte[] payload) {
+        return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(mac(payload));
+    }
+
+    // 토큰 서명을 검증하고 payload 반환 (형식 오류나 서명 불일치 시 null)
+    public byte[] verify(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot == token.length() - 1) {
+            return null;
+        }
+
+        try {
+            byte[] payload = DECODER.decode(token.substring(0, dot));
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+
+            // 타이밍 공격 방지를 위해 상수 시간 비교
+            return MessageDigest.isEqual(mac(payload), signature) ? payload : null;
+        } catch (IllegalArgumentException e) { // base64 형식 오류
+            return null;
+        }
+    }
+
+    // Mac 은 스레드 안전하지 않으므로 원본을 복제해서 사용
+    private byte[] mac(byte[] payload) {
+        Mac mac;
+        try {
+            mac = (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            mac = newMac();
+        }
+        return mac.doFinal(payload);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot initialize " + ALGORITHM, e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.mpa_login.todo;
+
+/**
+ * 수정하려는 할 일의 버전이 현재 버전과 다를 때 발생하는 예외 (낙관적 잠금 충돌)
+ * - 수정 폼을 연 이후 다른 탭이나 요청이 먼저 수정한 경우
+ */
+public class TodoConflictException extends RuntimeException {
+
+    public TodoConflictException(String message) {
+        super(message);
+    }
+}
@@ -2,16 +2,21 @@ package com.example.mpa_login.todo;
 
 import com.example.mpa_login.security.model.CustomUser;
 import com.example.mpa_login.todo.model.Todo;
+import com.example.mpa_login.todo.model.TodoPage;
+import com.example.mpa_login.todo.model.TodoSummary;
 import com.example.mpa_login.user.UserService;
 import com.example.mpa_login.user.model.User;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * 할 일(Todo) 목록과 관련된 웹 요청을 처리하는 컨트롤러
@@ -42,18 +47,27 @@ public class TodoController {
     private final TodoService todoService;
     private final UserService userService;
 
-    // 사용자의 할 일 목록을 조회하여 뷰에 전달
+    // 사용자의 할 일 목록을 한 페이지씩 조회하여 뷰에 전달
+    // after/before: 키셋 페이지네이션 커서 (다음/이전 페이지), size: 페이지 크기 (이전/다음 링크에 그대로 전달)
     @GetMapping
-    public String listTodos(@AuthenticationPrincipal CustomUser customUser, Model model) {
-        // 사용자 정보 DB 조회
-        Optional<User> user = userService.findByUsername(customUser.getUsername());
-        if (user.isEmpty()) { // 사용자가 존재하지 않으면 로그인 페이지로 리다이렉트
+    public String listTodos(@AuthenticationPrincipal CustomUser customUser,
+                            @RequestParam(value = "after", required = false) Long after,
+                            @RequestParam(value = "before", required = false) Long before,
+                            @RequestParam(value = "size", defaultValue = "" + TodoService.DEFAULT_PAGE_SIZE) int size,
+                            Model model) {
+        // 세션의 인증 정보(CustomUser)에 담긴 사용자 ID를 그대로 사용 (users 테이블 재조회 없음)
+        Long userId = customUser.getUserId();
+        if (!userService.existsById(userId)) { // 계정이 삭제되었으면 로그인 페이지로 리다이렉트 (짧은 TTL 캐시)
             return "redirect:/login";
         }
 
-        // 해당 사용자에 대한 할일 목록 조회
-        List<Todo> todos = todoService.getTodosByUser(user.get());
-        model.addAttribute("todos", todos); // 모델이 데이터 추가
+        // 해당 사용자에 대한 할일 목록 중 한 페이지만 조회
+        TodoPage page = todoService.getTodoPage(userId, after, before, size);
+        model.addAttribute("todos", page.getItems()); // 모델이 데이터 추가
+        model.addAttribute("prevCursor", page.getPrevCursor()); // 이전 페이지 커서
+        model.addAttribute("nextCursor", page.getNextCursor()); // 다음 페이지 커서
+        model.addAttribute("size", size); // 이전/다음 링크에도 같은 페이지 크기 유지
+        model.addAttribute("counts", todoService.getTodoCounts(userId)); // 미완료/완료 개수 (목록 전체를 세지 않음)
         return "todos"; // "todos.html 뷰 반환
     }
 
@@ -68,6 +82,62 @@ public class TodoController {
         return "redirect:/todos"; // 목록 페이지로 리다이렉트
     }
 
+    // 여러 할 일을 한 번에 추가하는 메서드 (한 줄에 제목 하나)
+    @PostMapping("/batch/add")
+    public String addTodos(@AuthenticationPrincipal CustomUser customUser, @RequestParam("titles") String titles) {
+        User user = new User();
+        user.setId(customUser.getUserId());
+
+        // 빈 줄을 제외한 각 줄을 할 일 제목으로 사용
+        List<Todo> todos = new ArrayList<>();
+        for (String line : titles.split("\\R")) {
+            String title = line.strip();
+            if (!title.isEmpty()) {
+                Todo todo = new Todo();
+                todo.setTitle(title);
+                todos.add(todo);
+            }
+        }
+
+        todoService.addTodos(todos, user);
+        return "redirect:/todos"; // 목록 페이지로 리다이렉트
+    }
+
+    // 선택한 여러 할 일을 한 번에 완료 처리하는 메서드
+    @PostMapping("/batch/complete")
+    public String completeTodos(@AuthenticationPrincipal CustomUser customUser,
+                                @RequestParam(value = "ids", required = false) Set<Long> ids) {
+        User user = new User();
+        user.setId(customUser.getUserId());
+
+        todoService.completeTodos(ids == null ? Set.of() : ids, user);
+        return "redirect:/todos"; // 목록 페이지로 리다이렉트
+    }
+
+    // 선택한 여러 할 일을 한 번에 삭제하는 메서드
+    @PostMapping("/batch/delete")
+    public String deleteTodos(@AuthenticationPrincipal CustomUser customUser,
+                              @RequestParam(value = "ids", required = false) Set<Long> ids) {
+        User user = new User();
+        user.setId(customUser.getUserId());
+
+        todoService.deleteTodos(ids == null ? Set.of() : ids, user);
+        return "redirect:/todos"; // 목록 페이지로 리다이렉트
+    }
+
+    // 특정 ID의 할 일 완료 여부를 변경하는 메서드 (completed: 변경할 상태)
+    // 엔티티를 읽고 다시 저장하지 않고 조건부 UPDATE 한 번으로 처리
+    @PostMapping("/complete/{id}")
+    public String setCompleted(@PathVariable("id") Long id,
+                               @RequestParam("completed") boolean completed,
+                               @AuthenticationPrincipal CustomUser customUser) {
+        User user = new User();
+        user.setId(customUser.getUserId());
+
+        todoService.setCompleted(id, completed, user);
+        return "redirect:/todos"; // 목록 페이지로 리다이렉트
+    }
+
     // 특정 ID의 할 일을 삭제하는 메서드
     @PostMapping("/delete/{id}")
     public String deleteTodo(@PathVariable("id") Long id, @AuthenticationPrincipal CustomUser customUser) {
@@ -84,11 +154,11 @@ public class TodoController {
     public String editTodo(@PathVariable("id") Long id, Model model, @AuthenticationPrincipal CustomUser customUser) {
         Long userId = customUser.getUserId();
 
-        // 해당 ID의 할 일 조회
-        Optional<Todo> todo = todoService.getTodoById(id);
+        // 로그인한 사용자가 소유한 할 일 조회 (소유자 확인은 쿼리 조건으로 처리)
+        Optional<Todo> todo = todoService.getTodoById(id, userId);
 
-        // 해당 할 일이 존재하고 로그인한 사용자가 소유자인지 확인
-        if (todo.isPresent() && todo.get().getUser().getId().equals(userId)) {
+        // 해당 할 일이 존재하는지 확인
+        if (todo.isPresent()) {
             model.addAttribute("todo", todo.get()); // 모델에 할 일 정보 추가
             return "edit_todo"; // 수정 폼 페이지 반환
         }
@@ -97,18 +167,43 @@ public class TodoController {
     }
 
     // 특정 ID의 할 일을 실제로 수정하는 메서드
+    // 수정 폼을 연 이후 다른 탭/요청이 먼저 수정했으면 409 상태로 수정 폼을 다시 보여줌
+    // (입력한 값은 유지하고, 최신 저장 값과 최신 버전을 함께 표시해서 확인 후 다시 저장)
     @PostMapping("/update/{id}")
     public String updateTodo(
             @PathVariable("id") Long id, // 수정할 할 일 ID
             @RequestParam("title") String title, // 새 제목
             @RequestParam("description") String description, // 새 설명
-            @AuthenticationPrincipal CustomUser customUser // 인증정보
+            @RequestParam("version") long version, // 수정 폼을 열 때의 버전
+            @AuthenticationPrincipal CustomUser customUser, // 인증정보
+            Model model,
+            HttpServletResponse response
     ) {
         User user = new User();
         user.setId(customUser.getUserId());
 
         // 수정된 정보로 업데이트
-        todoService.updateTodo(id, title, description, user);
+        try {
+            todoService.updateTodo(id, title, description, version, user);
+        } catch (TodoConflictException e) {
+            TodoSummary latest;
+            try {
+                latest = todoService.getTodoSummary(id, user.getId()); // 먼저 저장된 최신 값
+            } catch (IllegalArgumentException deleted) { // 그 사이 삭제된 할 일: 다시 수정할 대상이 없음
+                return "redirect:/todos";
+            }
+
+            Todo edited = new Todo(); // 사용자가 입력한 값 + 최신 버전
+            edited.setId(id);
+            edited.setTitle(title);
+            edited.setDescription(description);
+            edited.setVersion(latest.getVersion());
+
+            response.setStatus(HttpServletResponse.SC_CONFLICT);
+            model.addAttribute("todo", edited);
+            model.addAttribute("latest", latest);
+            return "edit_todo"; // 수정 폼 다시 표시
+        }
         return "redirect:/todos"; // 목록으로 리다이렉트
     }
 }
@@ -0,0 +1,57 @@
+package com.example.mpa_login.todo;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * todo_counts 행이 없는 사용자의 개수를 todos 에서 집계해서 생성하는 작업
+ * - 조회 요청(GET /todos)이 INSERT ... SELECT 를 실행하지 않도록 별도 작업으로 분리
+ *   (요청 트랜잭션의 todos 행 잠금과 todo_counts 유니크 키 대기가 엇갈리는 교착 상태 방지)
+ * - 사용자 한 명당 짧은 문장 하나로 처리하고, 교착 상태 등으로 실패한 사용자는 다음 주기에 다시 시도
+ * - 여러 노드에서 동시에 실행되어도 유니크 키로 한 번만 생성됨
+ */
+@Slf4j
+@Component
+public class TodoCountBackfillJob {
+
+    private final TodoCountRepository todoCountRepository;
+    private final int batchSize;
+
+    public TodoCountBackfillJob(TodoCountRepository todoCountRepository,
+                                @Value("${todo.counts.backfill-batch-size:500}") int batchSize) {
+        this.todoCountRepository = todoCountRepository;
+        this.batchSize = batchSize;
+    }
+
+    // 개수 행이 없는 사용자를 모두 처리하고 생성한 행 수 반환
+    @Scheduled(initialDelayString = "${todo.counts.backfill-initial-delay:30s}",
+            fixedDelayString = "${todo.counts.backfill-interval:10m}")
+    public int backfill() {
+        int created = 0;
+        long afterId = 0;
+        List<Long> userIds;
+        do {
+            userIds = todoCountRepository.findUsersWithoutCounts(afterId, batchSize);
+            for (Long userId : userIds) {
+                try {
+                    if (todoCountRepository.backfill(userId)) {
+                        created++;
+                    }
+                } catch (ConcurrencyFailureException e) { // 교착 상태, 잠금 대기 시간 초과
+                    log.debug("Todo count backfill deferred userId = {}", userId, e);
+                }
+                afterId = userId;
+            }
+        } while (userIds.size() == batchSize);
+
+        if (created > 0) {
+            log.info("Todo count rows created = {}", created);
+        }
+        return created;
+    }
+}
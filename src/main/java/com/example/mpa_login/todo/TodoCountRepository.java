@@ -0,0 +1,75 @@
+package com.example.mpa_login.todo;
+
+import com.example.mpa_login.todo.model.TodoCounts;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 사용자별 할 일 개수(todo_counts) 관리
+ * - 할 일 추가/삭제/완료 상태 변경 시 같은 트랜잭션에서 증감값만 UPDATE (목록 전체 스캔 없음)
+ * - 행이 없는 사용자(기능 도입 이전 사용자, 신규 사용자)는 TodoCountBackfillJob 이 주기적으로 생성
+ *   (조회 요청에서는 쓰기를 하지 않고, 행이 없으면 todos 에서 직접 집계만 해서 반환)
+ * - 행이 없을 때의 증감값은 버림: 이후 생성 시 todos 를 집계하므로 그 변경까지 포함됨
+ */
+@Repository
+public class TodoCountRepository {
+
+    private static final String SELECT_SQL = "select open_count, completed_count from todo_counts where user_id = ?";
+    private static final String COUNT_SQL = "select coalesce(sum(case when completed then 0 else 1 end), 0) as open_count, "
+            + "coalesce(sum(case when completed then 1 else 0 end), 0) as completed_count from todos where user_id = ?";
+    private static final String UPDATE_SQL = "update todo_counts set open_count = open_count + ?, "
+            + "completed_count = completed_count + ? where user_id = ?";
+    private static final String MISSING_USERS_SQL = "select u.id from users u where u.id > ? "
+            + "and not exists (select 1 from todo_counts c where c.user_id = u.id) order by u.id limit ?";
+    private static final String BACKFILL_SQL = "insert into todo_counts (user_id, open_count, completed_count) "
+            + "select ?, coalesce(sum(case when completed then 0 else 1 end), 0), "
+            + "coalesce(sum(case when completed then 1 else 0 end), 0) from todos where user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TodoCountRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 사용자의 미완료/완료 개수 조회 (기본 키 조회 1회, 행이 없으면 (user_id, id) 인덱스로 집계, 쓰기 없음)
+    public TodoCounts findByUserId(Long userId) {
+        List<TodoCounts> rows = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> toCounts(rs), userId);
+        if (!rows.isEmpty()) {
+            return rows.get(0);
+        }
+        return jdbcTemplate.queryForObject(COUNT_SQL, (rs, rowNum) -> toCounts(rs), userId);
+    }
+
+    // 증감값 반영 (호출 측 트랜잭션에서 할 일 변경 직후 호출, 행이 없으면 아무것도 하지 않음)
+    public void addCounts(Long userId, long openDelta, long completedDelta) {
+        if (openDelta == 0 && completedDelta == 0) {
+            return;
+        }
+        jdbcTemplate.update(UPDATE_SQL, openDelta, completedDelta, userId);
+    }
+
+    // 개수 행이 없는 사용자 ID 조회 (afterId 다음부터 id 순으로 limit 건)
+    public List<Long> findUsersWithoutCounts(long afterId, int limit) {
+        return jdbcTemplate.queryForList(MISSING_USERS_SQL, Long.class, afterId, limit);
+    }
+
+    // todos 테이블에서 집계해서 행 생성, 이미 있으면 false
+    // (트랜잭션 밖에서 사용자 한 명씩 실행해서 잠금 범위를 그 사용자의 할 일로 제한)
+    public boolean backfill(Long userId) {
+        try {
+            jdbcTemplate.update(BACKFILL_SQL, userId, userId);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private static TodoCounts toCounts(ResultSet rs) throws SQLException {
+        return new TodoCounts(rs.getLong("open_count"), rs.getLong("completed_count"));
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.mpa_login.todo;
+
+import com.example.mpa_login.todo.model.TodoPage;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 할 일 목록 페이지 캐시
+ * - 사용자 ID 하나당 하나의 엔트리(UserPages)를 두고, 그 안에 커서별 페이지를 보관
+ * - 최대 사용자 수(size)와 TTL 기준으로 Caffeine이 엔트리를 제거
+ * - 할 일이 변경되면 해당 사용자 엔트리를 통째로 무효화 (트랜잭션 커밋 이후)
+ * # 동시성 처리 방식 (전역 락 없음)
+ * - 조회 시 먼저 엔트리를 얻고 나서 DB를 조회한 뒤, 결과를 "그 엔트리"에 저장
+ * - 쓰기 커밋 후 무효화가 일어나면 엔트리가 캐시에서 빠지므로, 그 이전에 시작된 조회가
+ *   늦게 저장하는 (오래된) 결과는 더 이상 캐시에서 보이지 않음
+ * - 무효화 이후에 얻은 새 엔트리는 커밋된 데이터만 조회하게 됨
+ */
+@Component
+public class TodoListCache {
+
+    private static final int MAX_PAGES_PER_USER = 8; // 사용자당 보관할 최대 페이지 수
+
+    private final Cache<Long, UserPages> cache;
+    private final Counter hits;
+    private final Counter misses;
+
+    public TodoListCache(MeterRegistry meterRegistry,
+                         @Value("${todo.list-cache.maximum-size:10000}") long maximumSize,
+                         @Value("${todo.list-cache.ttl:60s}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize) // 최대 사용자 수
+                .expireAfterWrite(ttl) // 엔트리 생성 후 TTL이 지나면 제거
+                .recordStats() // 제거(eviction) 횟수 집계
+                .build();
+
+        // 캐시 크기 산정을 위한 지표 (hit / miss / eviction / size)
+        this.hits = Counter.builder("todo.list.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("todo.list.cache.requests").tag("result", "miss").register(meterRegistry);
+        FunctionCounter.builder("todo.list.cache.evictions", cache, c -> c.stats().evictionCount())
+                .register(meterRegistry);
+        Gauge.builder("todo.list.cache.size", cache, Cache::estimatedSize)
+                .register(meterRegistry);
+    }
+
+    // 캐시된 페이지를 반환하고, 없으면 loader로 조회한 결과를 캐시에 저장
+    public TodoPage get(Long userId, String pageKey, Supplier<TodoPage> loader) {
+        UserPages userPages = cache.get(userId, id -> new UserPages());
+
+        TodoPage page = userPages.pages.get(pageKey);
+        if (page != null) {
+            hits.increment();
+            return page;
+        }
+
+        misses.increment();
+        page = loader.get();
+        if (userPages.pages.size() < MAX_PAGES_PER_USER) {
+            userPages.pages.putIfAbsent(pageKey, page);
+        }
+        return page;
+    }
+
+    // 사용자의 캐시된 목록을 무효화 (진행 중인 트랜잭션이 있으면 커밋 이후에 무효화)
+    public void invalidate(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(userId);
+                }
+            });
+            return;
+        }
+
+        cache.invalidate(userId);
+    }
+
+    // 한 사용자의 캐시된 페이지 모음 (키: 커서와 페이지 크기 조합)
+    private static final class UserPages {
+        private final Map<String, TodoPage> pages = new ConcurrentHashMap<>();
+    }
+}
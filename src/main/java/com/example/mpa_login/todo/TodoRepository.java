@@ -1,12 +1,99 @@
 package com.example.mpa_login.todo;
 
 import com.example.mpa_login.todo.model.Todo;
+import com.example.mpa_login.todo.model.TodoSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
 
-    // 특정 사용자 ID에 해당하는 할 일 목록을 조회하는 메서드
-    List<Todo> findByUserId(Long userId); // user_id로 할 일 목록 조회
+    // 소유자 조건을 포함한 단건 조회 (수정 폼): user_id 조건만 사용하므로 users 테이블은 조회하지 않음
+    Optional<Todo> findByIdAndUserId(Long id, Long userId);
+
+    // 키셋 페이지네이션: 커서(afterId) 다음의 할 일을 id 오름차순으로 조회 (user_id, id 인덱스 사용)
+    @Query("select t.id as id, t.title as title, t.description as description, t.completed as completed, " +
+            "t.version as version " +
+            "from Todo t where t.user.id = :userId and t.id > :afterId order by t.id asc")
+    List<TodoSummary> findPageAfter(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 키셋 페이지네이션: 커서(beforeId) 이전의 할 일을 id 내림차순으로 조회 (호출 측에서 다시 오름차순으로 뒤집음)
+    @Query("select t.id as id, t.title as title, t.description as description, t.completed as completed, " +
+            "t.version as version " +
+            "from Todo t where t.user.id = :userId and t.id < :beforeId order by t.id desc")
+    List<TodoSummary> findPageBefore(@Param("userId") Long userId, @Param("beforeId") Long beforeId, Pageable pageable);
+
+    // 단건 조회 (소유자 조건 포함): API 응답에 필요한 컬럼만 조회
+    @Query("select t.id as id, t.title as title, t.description as description, t.completed as completed, " +
+            "t.version as version " +
+            "from Todo t where t.id = :id and t.user.id = :userId")
+    Optional<TodoSummary> findSummaryByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    // 부분 수정 (소유자 + 버전 조건 포함): null 로 전달된 값은 기존 값을 유지, 성공하면 버전 증가
+    // 변경된 행 수가 0이면 그 사이 다른 요청이 먼저 수정한 것 (낙관적 잠금 충돌)
+    @Modifying
+    @Query("update Todo t set t.title = coalesce(:title, t.title), " +
+            "t.description = coalesce(:description, t.description), " +
+            "t.completed = coalesce(:completed, t.completed), " +
+            "t.version = t.version + 1 " +
+            "where t.id = :id and t.user.id = :userId and t.version = :version")
+    int patchByIdAndUserIdAndVersion(@Param("id") Long id,
+                                     @Param("userId") Long userId,
+                                     @Param("version") long version,
+                                     @Param("title") String title,
+                                     @Param("description") String description,
+                                     @Param("completed") Boolean completed);
+
+    // 완료 상태 변경 (소유자 + 현재 상태 조건 포함): 실제로 상태가 바뀐 경우에만 1 반환
+    // 엔티티를 읽지 않고 UPDATE 한 번으로 처리하며, 반환값으로 개수 증감 여부를 판단
+    @Modifying
+    @Query("update Todo t set t.completed = :completed, t.version = t.version + 1 " +
+            "where t.id = :id and t.user.id = :userId and t.completed <> :completed")
+    int updateCompletedByIdAndUserId(@Param("id") Long id,
+                                     @Param("userId") Long userId,
+                                     @Param("completed") boolean completed);
+
+    // 소유 여부 확인 (조건부 UPDATE 가 아무 행도 바꾸지 않았을 때 없는 할 일인지 구분)
+    boolean existsByIdAndUserId(Long id, Long userId);
+
+    // 소유자 + 버전 조건을 포함한 단일 UPDATE (낙관적 잠금, 성공하면 버전 증가)
+    // 변경된 행 수가 0이면 존재하지 않거나, 소유자가 아니거나, 수정 폼을 연 이후 다른 요청이 먼저 수정한 것
+    @Modifying
+    @Query("update Todo t set t.title = :title, t.description = :description, t.version = t.version + 1 " +
+            "where t.id = :id and t.user.id = :userId and t.version = :version")
+    int updateByIdAndUserIdAndVersion(@Param("id") Long id,
+                                      @Param("userId") Long userId,
+                                      @Param("version") long version,
+                                      @Param("title") String title,
+                                      @Param("description") String description);
+
+    // 소유자, 완료 상태 조건을 포함한 단일 DELETE: 삭제된 행 수가 0이면 존재하지 않거나 소유자가 아니거나 상태가 다름
+    // (삭제 전에 행을 읽지 않고 어느 개수를 줄일지 판단하기 위해 완료 상태 조건 사용)
+    @Modifying
+    @Query("delete from Todo t where t.id = :id and t.user.id = :userId and t.completed = :completed")
+    int deleteByIdAndUserIdAndCompleted(@Param("id") Long id,
+                                        @Param("userId") Long userId,
+                                        @Param("completed") boolean completed);
+
+    // 일괄 처리 전 소유권 확인: 주어진 id 중 해당 사용자가 소유한 할 일 개수
+    long countByUserIdAndIdIn(Long userId, Collection<Long> ids);
+
+    // 여러 할 일을 한 번의 UPDATE로 완료 처리 (소유자 조건 포함, 이미 완료된 할 일은 제외해서 변경 건수 = 완료로 바뀐 건수)
+    @Modifying
+    @Query("update Todo t set t.completed = true, t.version = t.version + 1 " +
+            "where t.user.id = :userId and t.id in :ids and t.completed = false")
+    int completeAllByIdInAndUserId(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    // 여러 할 일을 한 번의 DELETE로 삭제 (소유자, 완료 상태 조건 포함: 삭제 건수로 미완료/완료 개수를 각각 감소)
+    @Modifying
+    @Query("delete from Todo t where t.user.id = :userId and t.id in :ids and t.completed = :completed")
+    int deleteAllByIdInAndUserIdAndCompleted(@Param("ids") Collection<Long> ids,
+                                             @Param("userId") Long userId,
+                                             @Param("completed") boolean completed);
 }
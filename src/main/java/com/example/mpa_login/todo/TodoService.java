@@ -1,10 +1,18 @@
 package com.example.mpa_login.todo;
 
 import com.example.mpa_login.todo.model.Todo;
+import com.example.mpa_login.todo.model.TodoCounts;
+import com.example.mpa_login.todo.model.TodoPage;
+import com.example.mpa_login.todo.model.TodoSummary;
 import com.example.mpa_login.user.model.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,52 +20,225 @@ import java.util.Optional;
 @Service
 public class TodoService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20; // 목록 한 페이지 기본 크기
+    public static final int MAX_PAGE_SIZE = 100; // 목록 한 페이지 최대 크기
+    public static final int MAX_BATCH_SIZE = 500; // 일괄 처리 한 번에 허용하는 최대 건수
+
     private final TodoRepository todoRepository;
+    private final TodoListCache todoListCache; // 사용자별 목록 캐시 (변경 시 무효화)
+    private final TodoCountRepository todoCountRepository; // 사용자별 미완료/완료 개수 (변경 시 증감)
 
     // 새로운 Todo를 추가하고 DB에 저장하는 메서드
+    @Transactional
     public Todo addTodo(Todo todo, User user) {
         todo.setUser(user);
-        return todoRepository.save(todo);
+        Todo saved = todoRepository.saveAndFlush(todo); // 개수 집계(JDBC)가 새 행을 볼 수 있도록 즉시 INSERT
+        todoCountRepository.addCounts(user.getId(), saved.isCompleted() ? 0 : 1, saved.isCompleted() ? 1 : 0);
+        todoListCache.invalidate(user.getId());
+        return saved;
+    }
+
+    // 여러 Todo를 한 트랜잭션에서 추가하는 메서드 (hibernate.jdbc.batch_size 단위로 INSERT 배치 실행)
+    @Transactional
+    public List<Todo> addTodos(List<Todo> todos, User user) {
+        checkBatchSize(todos.size());
+        if (todos.isEmpty()) {
+            return todos;
+        }
+
+        todos.forEach(todo -> todo.setUser(user));
+        List<Todo> saved = todoRepository.saveAll(todos);
+        todoRepository.flush(); // 개수 집계(JDBC)가 새 행을 볼 수 있도록 즉시 INSERT
+
+        long completed = saved.stream().filter(Todo::isCompleted).count();
+        todoCountRepository.addCounts(user.getId(), saved.size() - completed, completed);
+        todoListCache.invalidate(user.getId());
+        return saved;
+    }
+
+    // 특정 사용자의 Todo 목록을 키셋(커서) 방식으로 한 페이지만 조회하는 메서드
+    // - after: 이 id 다음 페이지 조회, before: 이 id 이전 페이지 조회 (둘 다 없으면 첫 페이지)
+    // - size + 1 건을 조회해서 다음(또는 이전) 페이지 존재 여부를 판단
+    public TodoPage getTodoPage(Long userId, Long after, Long before, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        String pageKey = after + ":" + before + ":" + pageSize; // 사용자 내 페이지 식별 키
+
+        // 사용자별 목록 캐시 조회, 없으면 DB에서 조회 후 캐시
+        return todoListCache.get(userId, pageKey, () -> loadTodoPage(userId, after, before, pageSize));
+    }
+
+    // DB에서 키셋 방식으로 한 페이지를 조회하는 메서드
+    private TodoPage loadTodoPage(Long userId, Long after, Long before, int pageSize) {
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+
+        if (before != null) {
+            List<TodoSummary> rows = new ArrayList<>(todoRepository.findPageBefore(userId, before, limit));
+            boolean hasPrev = rows.size() > pageSize;
+            if (hasPrev) {
+                rows.remove(rows.size() - 1);
+            }
+            Collections.reverse(rows); // 내림차순으로 조회했으므로 화면 표시 순서(오름차순)로 변경
+
+            Long prevCursor = hasPrev ? rows.get(0).getId() : null;
+            Long nextCursor = rows.isEmpty() ? null : rows.get(rows.size() - 1).getId();
+            return new TodoPage(rows, prevCursor, nextCursor);
+        }
+
+        List<TodoSummary> rows = new ArrayList<>(todoRepository.findPageAfter(userId, after == null ? 0L : after, limit));
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows.remove(rows.size() - 1);
+        }
+
+        Long prevCursor = (after != null && !rows.isEmpty()) ? rows.get(0).getId() : null;
+        Long nextCursor = hasNext ? rows.get(rows.size() - 1).getId() : null;
+        return new TodoPage(rows, prevCursor, nextCursor);
     }
 
-    // 특정 사용자의 Todo 목록을 조회하는 메서드
-    public List<Todo> getTodosByUser(User user) {
-        return todoRepository.findByUserId(user.getId());
+    // 사용자의 미완료/완료 할 일 개수 (목록 화면 상단 표시용, todo_counts 기본 키 조회 1회)
+    public TodoCounts getTodoCounts(Long userId) {
+        return todoCountRepository.findByUserId(userId);
     }
 
     // 특정 ID의 Todo를 삭제하는 메서드 (소유자 확인 포함)
+    // DELETE ... WHERE id = ? AND user_id = ? AND completed = ? 로 소유자 확인과 삭제를 함께 처리
+    // (미완료 조건으로 먼저 삭제해보고, 없으면 완료 조건으로 삭제해서 어느 개수를 줄일지 판단, 삭제 전에 행을 읽지 않음)
+    // 삭제된 행의 완료 여부가 곧 조건이므로 줄이는 개수(미완료/완료)는 실제 삭제된 행과 항상 일치
+    @Transactional
     public void deleteTodoById(Long id, User user) {
-        Todo todo = validatedTodo(id, user);
+        Long userId = user.getId();
+        if (todoRepository.deleteByIdAndUserIdAndCompleted(id, userId, false) > 0) {
+            todoCountRepository.addCounts(userId, -1, 0);
+        } else if (todoRepository.deleteByIdAndUserIdAndCompleted(id, userId, true) > 0) {
+            todoCountRepository.addCounts(userId, 0, -1);
+        } else { // 존재하지 않거나 다른 사용자의 할 일
+            throw new IllegalArgumentException("Todo not found");
+        }
 
-        // 검증 통과 시 삭제
-        todoRepository.deleteById(id);
+        todoListCache.invalidate(userId);
     }
 
-    // ID로 Todo를 조회하면 Optional로 반환 (수정 폼 등에서 사용)
-    public Optional<Todo> getTodoById(Long id) {
-        return todoRepository.findById(id);
+    // 사용자가 소유한 Todo를 ID로 조회하여 Optional로 반환 (수정 폼에서 사용, 쿼리 1회)
+    // 소유자 확인을 WHERE 조건으로 처리하므로 연관된 User 를 읽을 필요가 없음
+    public Optional<Todo> getTodoById(Long id, Long userId) {
+        return todoRepository.findByIdAndUserId(id, userId);
     }
 
-    // 특정 ID의 Todo를 수정하는 메서드 (소유자 검증 포함)
-    public void updateTodo(Long id, String title, String description, User user) {
-        Todo todo = validatedTodo(id, user);
+    // 특정 ID의 Todo를 수정하는 메서드 (소유자 검증 + 낙관적 잠금)
+    // UPDATE ... WHERE id = ? AND user_id = ? AND version = ? 한 번으로 소유자 확인, 충돌 확인, 수정을 함께 처리
+    // - version: 수정 폼을 열 때 읽은 버전, 그 이후 다른 요청이 먼저 수정했으면 TodoConflictException
+    @Transactional
+    public void updateTodo(Long id, String title, String description, long version, User user) {
+        int updated = todoRepository.updateByIdAndUserIdAndVersion(id, user.getId(), version, title, description);
+        if (updated == 0) {
+            throw notFoundOrConflict(id, user.getId());
+        }
 
-        // 제목과 설명을 수정하고 저장
-        todo.setTitle(title);
-        todo.setDescription(description);
-        todoRepository.save(todo);
+        todoListCache.invalidate(user.getId());
     }
 
-    private Todo validatedTodo(Long id, User user) {
-        // ID로 할 일을 조회, 없으면 예외 발생
-        Todo todo = todoRepository.findById(id)
+    // 특정 ID의 Todo를 소유자 조건으로 조회하는 메서드 (API 단건 응답용 프로젝션)
+    public TodoSummary getTodoSummary(Long id, Long userId) {
+        return todoRepository.findSummaryByIdAndUserId(id, userId)
                 .orElseThrow(() -> new IllegalArgumentException("Todo not found"));
+    }
+
+    // 특정 ID의 Todo 중 전달된 값(null 이 아닌 값)만 수정하고 수정된 결과를 반환하는 메서드
+    // 현재 값 조회 1회 + 버전 조건부 UPDATE 1회 + 수정된 행 조회 1회
+    // - version: 클라이언트가 알고 있는 버전 (null 이면 방금 조회한 버전 기준)
+    // - 조회와 UPDATE 사이에 다른 요청이 수정했으면 버전 조건이 실패하므로 완료 개수 증감도 어긋나지 않음
+    @Transactional
+    public TodoSummary patchTodo(Long id, String title, String description, Boolean completed, Long version, User user) {
+        Long userId = user.getId();
+        TodoSummary current = getTodoSummary(id, userId);
+        long expectedVersion = version != null ? version : current.getVersion();
+        if (current.getVersion() != expectedVersion) {
+            throw new TodoConflictException("Todo was modified by another request");
+        }
 
-        // 현재 사용자와 해당 할 일의 소유자가 일치하지 않으면 보안 예외 발생
-        if (!todo.getUser().getId().equals(user.getId())) {
-            throw new SecurityException("Unauthorized");
+        int updated = todoRepository.patchByIdAndUserIdAndVersion(id, userId, expectedVersion, title, description, completed);
+        if (updated == 0) {
+            throw notFoundOrConflict(id, userId);
         }
 
-        return todo;
+        if (completed != null && completed != current.isCompleted()) {
+            todoCountRepository.addCounts(userId, completed ? -1 : 1, completed ? 1 : -1);
+        }
+        todoListCache.invalidate(userId);
+        return getTodoSummary(id, userId);
+    }
+
+    // 특정 ID의 Todo 완료 여부를 변경하는 메서드 (엔티티 조회 없이 조건부 UPDATE 1회)
+    // UPDATE ... SET completed = ? WHERE id = ? AND user_id = ? AND completed <> ?
+    // - 실제로 상태가 바뀐 경우에만 개수를 증감하므로 중복 요청(두 번 클릭 등)에도 개수가 어긋나지 않음
+    // - 반환값: 상태가 바뀌었으면 true, 이미 요청한 상태였으면 false
+    @Transactional
+    public boolean setCompleted(Long id, boolean completed, User user) {
+        Long userId = user.getId();
+        if (todoRepository.updateCompletedByIdAndUserId(id, userId, completed) == 0) {
+            // 이미 요청한 상태인지, 존재하지 않거나 다른 사용자의 할 일인지 구분
+            if (!todoRepository.existsByIdAndUserId(id, userId)) {
+                throw new IllegalArgumentException("Todo not found");
+            }
+            return false;
+        }
+
+        todoCountRepository.addCounts(userId, completed ? -1 : 1, completed ? 1 : -1);
+        todoListCache.invalidate(userId);
+        return true;
+    }
+
+    // 여러 Todo를 한 번에 완료 처리하는 메서드 (소유권 확인은 일괄 1회)
+    @Transactional
+    public int completeTodos(Collection<Long> ids, User user) {
+        checkBatchSize(ids.size());
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        verifyOwnership(ids, user.getId());
+        int updated = todoRepository.completeAllByIdInAndUserId(ids, user.getId()); // 미완료 -> 완료로 바뀐 건수
+        todoCountRepository.addCounts(user.getId(), -updated, updated);
+        todoListCache.invalidate(user.getId());
+        return updated;
+    }
+
+    // 여러 Todo를 한 번에 삭제하는 메서드 (소유권 확인은 일괄 1회)
+    @Transactional
+    public int deleteTodos(Collection<Long> ids, User user) {
+        checkBatchSize(ids.size());
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        verifyOwnership(ids, user.getId());
+        // 미완료/완료 조건으로 나눠 삭제해서 각 개수의 감소량을 정확히 구함 (삭제 전 상태를 따로 읽지 않음)
+        int deletedOpen = todoRepository.deleteAllByIdInAndUserIdAndCompleted(ids, user.getId(), false);
+        int deletedCompleted = todoRepository.deleteAllByIdInAndUserIdAndCompleted(ids, user.getId(), true);
+        todoCountRepository.addCounts(user.getId(), -deletedOpen, -deletedCompleted);
+        todoListCache.invalidate(user.getId());
+        return deletedOpen + deletedCompleted;
+    }
+
+    // 조건부 UPDATE 가 아무 행도 바꾸지 않은 경우: 없는 할 일이면 not found, 있으면 버전 충돌
+    private RuntimeException notFoundOrConflict(Long id, Long userId) {
+        if (!todoRepository.existsByIdAndUserId(id, userId)) { // 존재하지 않거나 다른 사용자의 할 일
+            return new IllegalArgumentException("Todo not found");
+        }
+        return new TodoConflictException("Todo was modified by another request");
+    }
+
+    // 일괄 처리 건수 제한 확인
+    private void checkBatchSize(int size) {
+        if (size > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Too many todos in one batch (max " + MAX_BATCH_SIZE + ")");
+        }
+    }
+
+    // 일괄 처리 대상이 모두 현재 사용자 소유인지 한 번의 COUNT 쿼리로 확인
+    private void verifyOwnership(Collection<Long> ids, Long userId) {
+        if (todoRepository.countByUserIdAndIdIn(userId, ids) != ids.size()) {
+            throw new IllegalArgumentException("Todo not found");
+        }
     }
 }
@@ -0,0 +1,122 @@
+package com.example.mpa_login.todo.api;
+
+import com.example.mpa_login.security.model.CustomUser;
+import com.example.mpa_login.todo.TodoConflictException;
+import com.example.mpa_login.todo.TodoService;
+import com.example.mpa_login.todo.model.Todo;
+import com.example.mpa_login.todo.model.TodoPage;
+import com.example.mpa_login.user.UserService;
+import com.example.mpa_login.user.model.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+
+/**
+ * 할 일(Todo) JSON API
+ * - 화면(TodoController)과 같은 TodoService 를 사용하고, 변경 요청은 변경된 할 일 하나만 응답
+ * - 목록은 페이지 내용 해시로 만든 ETag 를 내려주고, If-None-Match 가 일치하면
+ *   본문 객체를 만들거나 JSON 직렬화하지 않고 304 Not Modified 로 응답
+ * - 인증되지 않은 요청은 로그인 페이지 리다이렉트 대신 401 (SecurityConfig), 목록 조회 시 계정이 삭제되었으면 401
+ * - CSRF 보호는 화면과 동일하게 적용 (X-XSRF-TOKEN 헤더 또는 _csrf 파라미터)
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/todos")
+public class TodoApiController {
+
+    private final TodoService todoService;
+    private final UserService userService;
+
+    // 할 일 목록 한 페이지 조회 (after/before: 키셋 페이지네이션 커서)
+    @GetMapping
+    public ResponseEntity<TodoPageResponse> listTodos(@AuthenticationPrincipal CustomUser customUser,
+                                                      @RequestParam(value = "after", required = false) Long after,
+                                                      @RequestParam(value = "before", required = false) Long before,
+                                                      @RequestParam(value = "size", defaultValue = "" + TodoService.DEFAULT_PAGE_SIZE) int size,
+                                                      WebRequest webRequest) {
+        Long userId = customUser.getUserId();
+        if (!userService.existsById(userId)) { // 화면(/todos)과 동일: 계정이 삭제되었으면 다시 로그인해야 함 (짧은 TTL 캐시)
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "account no longer exists");
+        }
+
+        TodoPage page = todoService.getTodoPage(userId, after, before, size); // 목록 캐시 사용
+
+        // 사용자 ID + 페이지 내용 해시 (같은 URL 을 여러 사용자가 쓰므로 사용자 ID 포함)
+        String etag = "W/\"" + userId + "-" + Long.toHexString(page.getContentHash()) + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null; // 304 응답 (ETag 헤더는 checkNotModified 에서 설정)
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate()) // 매번 재검증, 공유 캐시 저장 금지
+                .body(TodoPageResponse.from(page));
+    }
+
+    // 할 일 생성: 201 Created + 생성된 할 일
+    @PostMapping
+    public ResponseEntity<TodoResponse> createTodo(@AuthenticationPrincipal CustomUser customUser,
+                                                   @RequestBody TodoCreateRequest request) {
+        if (request.title() == null || request.title().isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "title is required");
+        }
+
+        Todo todo = new Todo();
+        todo.setTitle(request.title());
+        todo.setDescription(request.description());
+        Todo saved = todoService.addTodo(todo, currentUser(customUser));
+
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(saved.getId())
+                .toUri();
+        return ResponseEntity.created(location).body(TodoResponse.from(saved));
+    }
+
+    // 할 일 부분 수정 (제목/설명/완료 여부 중 전달된 값만): 수정된 할 일 반환
+    // version 을 함께 보내면 그 이후 다른 요청이 수정한 경우 409 Conflict
+    @PatchMapping("/{id}")
+    public TodoResponse patchTodo(@PathVariable("id") Long id,
+                                  @AuthenticationPrincipal CustomUser customUser,
+                                  @RequestBody TodoPatchRequest request) {
+        if (request.title() != null && request.title().isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "title must not be blank");
+        }
+
+        return TodoResponse.from(todoService.patchTodo(id, request.title(), request.description(),
+                request.completed(), request.version(), currentUser(customUser)));
+    }
+
+    // 할 일 삭제: 204 No Content
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void deleteTodo(@PathVariable("id") Long id, @AuthenticationPrincipal CustomUser customUser) {
+        todoService.deleteTodoById(id, currentUser(customUser));
+    }
+
+    // 존재하지 않거나 다른 사용자의 할 일
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public void handleNotFound() {
+    }
+
+    // 다른 요청이 먼저 수정함 (낙관적 잠금 충돌): 최신 값을 다시 조회한 뒤 재시도
+    @ExceptionHandler(TodoConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public void handleConflict() {
+    }
+
+    // 인증 정보의 사용자 ID 만 담은 User (users 테이블 재조회 없음)
+    private static User currentUser(CustomUser customUser) {
+        User user = new User();
+        user.setId(customUser.getUserId());
+        return user;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.mpa_login.todo.api;
+
+/**
+ * 할 일 생성 요청 본문
+ */
+public record TodoCreateRequest(String title, String description) {
+}
@@ -0,0 +1,16 @@
+package com.example.mpa_login.todo.api;
+
+import com.example.mpa_login.todo.model.TodoPage;
+
+import java.util.List;
+
+/**
+ * API 목록 응답: 한 페이지의 할 일과 이전/다음 페이지 커서 (없으면 null)
+ */
+public record TodoPageResponse(List<TodoResponse> items, Long prevCursor, Long nextCursor) {
+
+    static TodoPageResponse from(TodoPage page) {
+        List<TodoResponse> items = page.getItems().stream().map(TodoResponse::from).toList();
+        return new TodoPageResponse(items, page.getPrevCursor(), page.getNextCursor());
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.mpa_login.todo.api;
+
+/**
+ * 할 일 부분 수정 요청 본문: 전달된(null 이 아닌) 필드만 수정
+ * - version: 클라이언트가 마지막으로 받은 버전 (전달하면 그 이후 다른 요청이 수정했을 때 409)
+ */
+public record TodoPatchRequest(String title, String description, Boolean completed, Long version) {
+}
@@ -0,0 +1,20 @@
+package com.example.mpa_login.todo.api;
+
+import com.example.mpa_login.todo.model.Todo;
+import com.example.mpa_login.todo.model.TodoSummary;
+
+/**
+ * API 응답용 할 일 표현 (엔티티의 연관 User 등은 노출하지 않음)
+ */
+public record TodoResponse(Long id, String title, String description, boolean completed, long version) {
+
+    static TodoResponse from(TodoSummary todo) {
+        return new TodoResponse(todo.getId(), todo.getTitle(), todo.getDescription(), todo.isCompleted(),
+                todo.getVersion());
+    }
+
+    static TodoResponse from(Todo todo) {
+        return new TodoResponse(todo.getId(), todo.getTitle(), todo.getDescription(), todo.isCompleted(),
+                todo.getVersion());
+    }
+}
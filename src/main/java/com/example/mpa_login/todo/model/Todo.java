@@ -8,19 +8,29 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
-@Table(name = "todos")
+// (user_id, id) 복합 인덱스: 사용자별 목록을 id 순으로 키셋 페이지네이션할 때 사용
+@Table(name = "todos", indexes = @Index(name = "idx_todos_user_id_id", columnList = "user_id, id"))
 public class Todo {
 
     @Id // 기본 키(primary key)로 지정
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // 기본 키 값을 DB에서 자동 생성 (Auto Increment)
+    // IDENTITY 전략은 INSERT마다 키를 받아와야 해서 JDBC 배치가 불가능하므로 pooled 시퀀스 사용
+    // (MySQL 에서는 Hibernate가 todo_seq 테이블로 시퀀스를 에뮬레이션, 한 번에 50개씩 할당)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_seq")
+    @SequenceGenerator(name = "todo_seq", sequenceName = "todo_seq", allocationSize = 50)
     private Long id;
 
     private String title; // 할 일 제목
     private String description; // 할 일 설명
     private boolean completed; // 완료 여부
 
+    // 낙관적 잠금 버전: 수정 시 WHERE version = ? 조건으로 확인하고 1 증가
+    // (수정 폼을 연 이후 다른 탭/요청이 먼저 수정했으면 충돌로 처리, 행 잠금(SELECT ... FOR UPDATE) 없음)
+    @Version
+    private long version;
+
     // 다대일(N:1) 관계 매핑 - 하나의 사용자는 여러 개의 할 일을 가질 수 있음
-    @ManyToOne
+    // LAZY: 할 일을 조회할 때 사용자(users)를 함께 조회하지 않음 (소유자 확인은 user_id 조건으로 처리)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false) // FK로 user_id 컬럼을 사용하며, null을 허용하지 않음
     private User user;
 }
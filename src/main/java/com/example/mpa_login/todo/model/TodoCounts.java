@@ -0,0 +1,7 @@
+package com.example.mpa_login.todo.model;
+
+/**
+ * 사용자의 미완료/완료 할 일 개수 (목록 화면 상단 표시용)
+ */
+public record TodoCounts(long openCount, long completedCount) {
+}
@@ -0,0 +1,68 @@
+package com.example.mpa_login.todo.model;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 키셋(커서) 방식으로 조회한 할 일 목록의 한 페이지
+ * - items: 현재 페이지의 할 일 목록 (id 오름차순)
+ * - prevCursor: 이전 페이지 조회 시 before 파라미터로 사용할 id (없으면 null)
+ * - nextCursor: 다음 페이지 조회 시 after 파라미터로 사용할 id (없으면 null)
+ * - contentHash: 페이지 내용(항목, 커서)의 해시, API 응답의 ETag 로 사용
+ *   (페이지 생성 시 한 번만 계산되고 목록 캐시에 함께 보관되므로 조회마다 다시 계산하지 않음)
+ */
+@Getter
+public class TodoPage {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final List<TodoSummary> items;
+    private final Long prevCursor;
+    private final Long nextCursor;
+    private final long contentHash;
+
+    public TodoPage(List<TodoSummary> items, Long prevCursor, Long nextCursor) {
+        this.items = List.copyOf(items); // 캐시 등에서 공유되므로 불변 리스트로 보관
+        this.prevCursor = prevCursor;
+        this.nextCursor = nextCursor;
+        this.contentHash = hash(this.items, prevCursor, nextCursor);
+    }
+
+    // 화면에 보이는 값(id, 제목, 설명, 완료 여부, 버전)과 커서로 64비트 FNV-1a 해시 계산
+    // (String.hashCode 는 32비트이고 "Aa"/"BB" 처럼 쉽게 충돌하므로 문자 단위로 직접 계산)
+    private static long hash(List<TodoSummary> items, Long prevCursor, Long nextCursor) {
+        long hash = FNV_OFFSET_BASIS;
+        for (TodoSummary item : items) {
+            hash = mix(hash, item.getId());
+            hash = mix(hash, item.getTitle());
+            hash = mix(hash, item.getDescription());
+            hash = mix(hash, item.isCompleted() ? 1L : 0L);
+            hash = mix(hash, item.getVersion());
+        }
+        hash = mix(hash, prevCursor);
+        hash = mix(hash, nextCursor);
+        return hash;
+    }
+
+    private static long mix(long hash, Long value) {
+        if (value == null) {
+            return (hash ^ 0xff) * FNV_PRIME; // null 과 0 을 구분
+        }
+        for (int shift = 0; shift < 64; shift += 8) {
+            hash = (hash ^ ((value >>> shift) & 0xff)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, String value) {
+        if (value == null) {
+            return (hash ^ 0xff) * FNV_PRIME;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return (hash ^ 0xfe) * FNV_PRIME; // 필드 경계 표시 (제목/설명 사이 문자 이동을 구분)
+    }
+}
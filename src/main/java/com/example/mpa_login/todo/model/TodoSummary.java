@@ -0,0 +1,19 @@
+package com.example.mpa_login.todo.model;
+
+/**
+ * 목록 화면에서 사용하는 읽기 전용 Todo 프로젝션
+ * - 엔티티 전체(연관된 User 포함) 대신 화면에 필요한 컬럼만 조회
+ * - 영속성 컨텍스트에 등록되지 않으므로 변경 감지 비용이 없음
+ */
+public interface TodoSummary {
+
+    Long getId(); // 할 일 ID (키셋 페이지네이션 커서로 사용)
+
+    String getTitle(); // 할 일 제목
+
+    String getDescription(); // 할 일 설명
+
+    boolean isCompleted(); // 완료 여부
+
+    long getVersion(); // 낙관적 잠금 버전 (수정 요청 시 함께 전달)
+}
@@ -0,0 +1,25 @@
+package com.example.mpa_login.todo.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+/**
+ * 사용자별 할 일 개수 테이블(todo_counts) 정의
+ * - 스키마 생성용 엔티티이며, 읽기/갱신은 TodoCountRepository 가 JDBC 로 수행
+ * - 할 일이 변경될 때 같은 트랜잭션에서 증감값만 반영하므로 목록 전체를 세지 않아도 됨
+ */
+@Getter
+@Entity
+@Table(name = "todo_counts")
+public class UserTodoCount {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId; // 사용자 ID (사용자당 한 행)
+
+    @Column(nullable = false)
+    private long openCount; // 미완료 할 일 수
+
+    @Column(nullable = false)
+    private long completedCount; // 완료된 할 일 수
+}
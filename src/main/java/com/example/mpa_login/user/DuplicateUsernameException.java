@@ -0,0 +1,12 @@
+package com.example.mpa_login.user;
+
+/**
+ * 이미 존재하는 사용자 이름(username)으로 가입을 시도했을 때 발생하는 예외
+ * - users.username 유니크 인덱스 위반을 변환하여 사용
+ */
+public class DuplicateUsernameException extends RuntimeException {
+
+    public DuplicateUsernameException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
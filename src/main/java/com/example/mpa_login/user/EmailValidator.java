@@ -0,0 +1,46 @@
+package com.example.mpa_login.user;
+
+/**
+ * 회원가입 이메일(username) 형식 검증
+ * - 기존 정규식 ^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+$ 와 동일한 규칙을 직접 구현
+ * - 요청마다 정규식을 컴파일하거나 Matcher 를 생성하지 않음 (객체 할당 없음)
+ */
+public final class EmailValidator {
+
+    private EmailValidator() {
+    }
+
+    // 이메일 형식이 올바른지 확인: 로컬파트@도메인, 각 부분은 1글자 이상
+    public static boolean isValid(CharSequence email) {
+        if (email == null) {
+            return false;
+        }
+
+        int at = -1; // '@' 위치
+        for (int i = 0; i < email.length(); i++) {
+            char c = email.charAt(i);
+            if (c == '@') {
+                if (at >= 0) { // '@' 는 한 번만 허용
+                    return false;
+                }
+                at = i;
+            } else if (!isAllowed(c, at < 0)) {
+                return false;
+            }
+        }
+
+        // 로컬파트와 도메인이 모두 비어 있지 않아야 함
+        return at > 0 && at < email.length() - 1;
+    }
+
+    // 허용 문자: 영문, 숫자, '.', '-' (로컬파트는 '+', '_' 추가 허용)
+    private static boolean isAllowed(char c, boolean localPart) {
+        if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+            return true;
+        }
+        if (c == '.' || c == '-') {
+            return true;
+        }
+        return localPart && (c == '+' || c == '_');
+    }
+}
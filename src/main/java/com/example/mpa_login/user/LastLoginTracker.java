@@ -0,0 +1,90 @@
+package com.example.mpa_login.user;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 마지막 로그인 시각, 로그인 횟수 기록
+ * - 로그인 성공 시에는 메모리에서 사용자별로 합치기만 하고 (DB 작업 없음)
+ * - flush-interval 마다 모인 사용자들을 한 번의 JDBC 배치 UPDATE 로 반영
+ * - 같은 사용자가 주기 안에 여러 번 로그인하면 UPDATE 한 번 (최근 시각, 횟수 합산)
+ * - 반영에 실패하면 꺼낸 기록을 다시 합쳐서 다음 주기에 재시도
+ * - 종료 시 남은 기록을 반영 (비정상 종료 시에는 마지막 주기의 기록이 유실될 수 있음)
+ */
+@Slf4j
+@Component
+public class LastLoginTracker implements DisposableBean {
+
+    private static final String UPDATE_SQL =
+            "update users set last_login_at = ?, login_count = login_count + ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 반영 대기 중인 로그인 기록 (사용자 ID -> 최근 로그인 시각, 횟수)
+    private final Map<Long, PendingLogin> pending = new ConcurrentHashMap<>();
+
+    public LastLoginTracker(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        Gauge.builder("user.last_login.pending", pending, Map::size).register(meterRegistry);
+    }
+
+    // 로그인 성공 기록 (요청 스레드에서 호출)
+    public void recordLogin(Long userId) {
+        long now = System.currentTimeMillis();
+        pending.merge(userId, new PendingLogin(now, 1), PendingLogin::merge);
+    }
+
+    // 모인 기록을 한 번의 배치 UPDATE 로 반영
+    @Scheduled(fixedDelayString = "${user.last-login.flush-interval:10s}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 키마다 remove 로 꺼내므로 꺼낸 뒤의 로그인은 다음 주기에 반영됨 (누락, 중복 없음)
+        Map<Long, PendingLogin> flushing = new HashMap<>(pending.size());
+        for (Long userId : pending.keySet()) {
+            PendingLogin login = pending.remove(userId);
+            if (login != null) {
+                flushing.put(userId, login);
+            }
+        }
+
+        List<Object[]> batch = new ArrayList<>(flushing.size());
+        flushing.forEach((userId, login) ->
+                batch.add(new Object[]{new Timestamp(login.lastLoginAt()), login.count(), userId}));
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+        } catch (RuntimeException e) {
+            // 일시적인 DB 오류로 기록이 사라지지 않도록 다음 주기에 다시 반영 (그 사이 로그인과 합침)
+            flushing.forEach((userId, login) -> pending.merge(userId, login, PendingLogin::merge));
+            log.warn("Failed to flush last login for {} users, retrying in the next flush", batch.size(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    private record PendingLogin(long lastLoginAt, long count) {
+
+        // 같은 사용자의 기록 합치기 (최근 시각, 횟수 합산)
+        PendingLogin merge(PendingLogin other) {
+            return new PendingLogin(Math.max(lastLoginAt, other.lastLoginAt), count + other.count);
+        }
+    }
+}
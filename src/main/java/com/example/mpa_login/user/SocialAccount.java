@@ -0,0 +1,9 @@
+package com.example.mpa_login.user;
+
+/**
+ * 소셜 로그인으로 확인한 계정
+ * - userId: users.id
+ * - username: 계정에 저장된 이메일 (이메일이 없거나, 이메일이 다른 계정 소유라서 연결하지 않은 경우 null)
+ */
+public record SocialAccount(Long userId, String username) {
+}
@@ -0,0 +1,142 @@
+package com.example.mpa_login.user;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * 소셜 로그인 사용자 upsert (users 테이블, social_type + social_id 유니크 인덱스 기준)
+ * - MySQL: INSERT ... ON DUPLICATE KEY UPDATE id = LAST_INSERT_ID(id) 한 문장으로 신규/기존 사용자 ID 반환
+ *   (동시에 처음 로그인해도 행이 중복 생성되지 않음)
+ * - 그 외 DB(H2 테스트): INSERT 후 유니크 위반이면 아래의 기존 계정 확인으로 동일하게 동작
+ * - 한 문장으로 끝나지 않는 드문 경우만 기존 계정 확인 (소셜 키 조회 -> 이전 계정 연결 -> 이메일 없이 등록)
+ *   - 충돌한 행이 같은 소셜 계정이지만 저장된 username 이 현재 이메일과 다른 경우
+ *   - 이메일(username)이 다른 계정에 이미 있는 경우
+ * # 이메일 기준 연결 정책
+ * - 제공자가 준 이메일은 검증 여부를 알 수 없으므로, 같은 이메일이라도 비밀번호 계정이나 다른 제공자(또는 다른 소셜 ID)의
+ *   계정에는 연결하지 않음 (제공자 쪽 이메일만 바꿔서 다른 사람 계정으로 로그인하는 것을 방지)
+ *   - MySQL 은 username 유니크 인덱스 충돌에도 ON DUPLICATE KEY 가 실행되므로, 충돌한 행이 같은 소셜 계정일 때만
+ *     LAST_INSERT_ID 에 ID 를 넣고 아니면 0 으로 설정해서 연결하지 않음
+ * - 이 경우 이메일(username) 없이 별도의 소셜 로그인 전용 계정을 만듦
+ * - 이전 버전에서 social_id 없이 이메일로만 저장된 같은 제공자의 계정만 이메일로 찾아 social_id 를 채움 (UPDATE 1회)
+ *   (이후 로그인부터는 한 문장으로 처리됨)
+ */
+@Repository
+public class SocialAccountRepository {
+
+    private static final String MYSQL_UPSERT_SQL = "insert into users (username, password, social_type, social_id, login_count) "
+            + "values (?, null, ?, ?, 0) on duplicate key update id = if("
+            + "social_type <=> values(social_type) and social_id <=> values(social_id) and username <=> values(username), "
+            + "last_insert_id(id), id + last_insert_id(0))";
+    private static final String INSERT_SQL = "insert into users (username, password, social_type, social_id, login_count) "
+            + "values (?, null, ?, ?, 0)";
+    private static final String FIND_BY_SOCIAL_SQL = "select id, username from users where social_type = ? and social_id = ?";
+    private static final String FIND_BY_USERNAME_SQL = "select id, social_type, social_id from users where username = ?";
+    private static final String LINK_LEGACY_SQL = "update users set social_id = ? where id = ? and social_id is null";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean mysql; // 첫 호출 시 DB 종류 확인
+
+    public SocialAccountRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 소셜 계정을 등록하거나 기존 계정을 찾아 반환 (email 이 없으면 null)
+    public SocialAccount upsert(String socialType, String socialId, String email) {
+        Long userId = isMySql() ? mysqlUpsert(socialType, socialId, email) : insertIfAbsent(socialType, socialId, email);
+        if (userId != null) {
+            return new SocialAccount(userId, email);
+        }
+        return resolveExisting(socialType, socialId, email);
+    }
+
+    // MySQL 한 문장 upsert: 새 행이거나 같은 소셜 계정(같은 username)이면 ID, 아니면 null
+    private Long mysqlUpsert(String socialType, String socialId, String email) {
+        Long userId = insert(MYSQL_UPSERT_SQL, socialType, socialId, email);
+        return userId == null || userId == 0 ? null : userId;
+    }
+
+    // INSERT 1회: 유니크 인덱스(소셜 키 또는 username) 위반이면 null
+    private Long insertIfAbsent(String socialType, String socialId, String email) {
+        try {
+            return insert(INSERT_SQL, socialType, socialId, email);
+        } catch (DuplicateKeyException e) {
+            return null;
+        }
+    }
+
+    // upsert 한 문장으로 끝나지 않은 경우
+    private SocialAccount resolveExisting(String socialType, String socialId, String email) {
+        SocialAccount existing = findBySocialIdentity(socialType, socialId);
+        if (existing != null) {
+            return existing;
+        }
+
+        if (email != null) {
+            List<EmailOwner> owners = jdbcTemplate.query(FIND_BY_USERNAME_SQL,
+                    (rs, rowNum) -> new EmailOwner(rs.getLong("id"), rs.getString("social_type"), rs.getString("social_id")),
+                    email);
+            if (!owners.isEmpty()) {
+                EmailOwner owner = owners.get(0);
+                // social_id 없이 저장된 같은 제공자의 이전 계정: social_id 를 채워서 연결
+                if (socialType.equals(owner.socialType()) && owner.socialId() == null
+                        && jdbcTemplate.update(LINK_LEGACY_SQL, socialId, owner.id()) == 1) {
+                    return new SocialAccount(owner.id(), email);
+                }
+            }
+        }
+
+        // 이메일이 다른 계정 소유이거나 이전 계정 연결을 다른 요청이 먼저 처리함: 이메일 없이 등록
+        try {
+            return new SocialAccount(insert(INSERT_SQL, socialType, socialId, null), null);
+        } catch (DuplicateKeyException e) {
+            // 같은 소셜 계정의 동시 첫 로그인(또는 동시 연결)이 먼저 행을 만든 경우 그 행 사용
+            existing = findBySocialIdentity(socialType, socialId);
+            if (existing == null) {
+                throw e;
+            }
+            return existing;
+        }
+    }
+
+    private SocialAccount findBySocialIdentity(String socialType, String socialId) {
+        List<SocialAccount> accounts = jdbcTemplate.query(FIND_BY_SOCIAL_SQL,
+                (rs, rowNum) -> new SocialAccount(rs.getLong("id"), rs.getString("username")),
+                socialType, socialId);
+        return accounts.isEmpty() ? null : accounts.get(0);
+    }
+
+    private Long insert(String sql, String socialType, String socialId, String username) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, username);
+            ps.setString(2, socialType);
+            ps.setString(3, socialId);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKeyAs(Long.class);
+    }
+
+    private boolean isMySql() {
+        Boolean result = mysql;
+        if (result == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            result = "MySQL".equalsIgnoreCase(product) || "MariaDB".equalsIgnoreCase(product);
+            mysql = result;
+        }
+        return result;
+    }
+
+    // 이메일(username)을 이미 사용 중인 계정
+    private record EmailOwner(Long id, String socialType, String socialId) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.mpa_login.user;
+
+import com.example.mpa_login.security.UserDetailsCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * 소셜 로그인 사용자 ID 확인
+ * - 최근 확인한 소셜 계정(socialType:socialId -> 사용자 ID)은 짧은 시간 동안 메모리에서 바로 반환
+ *   (연속 재로그인 시 DB 를 거치지 않음)
+ * - 없으면 SocialAccountRepository 로 등록 또는 조회 (이메일 기준 연결 정책은 SocialAccountRepository 참고)
+ */
+@Service
+public class SocialUserService {
+
+    private final SocialAccountRepository socialAccountRepository;
+    private final UserDetailsCache userDetailsCache; // 폼 로그인 사용자 조회 캐시
+
+    private final Cache<String, SocialAccount> resolvedAccounts;
+
+    public SocialUserService(SocialAccountRepository socialAccountRepository,
+                             UserDetailsCache userDetailsCache,
+                             @Value("${user.social-identity-cache.maximum-size:10000}") long maximumSize,
+                             @Value("${user.social-identity-cache.ttl:5m}") Duration ttl) {
+        this.socialAccountRepository = socialAccountRepository;
+        this.userDetailsCache = userDetailsCache;
+        this.resolvedAccounts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    // 소셜 계정 반환 (없으면 소셜 로그인 전용 계정으로 등록, 비어 있는 이메일은 null 로 저장)
+    public SocialAccount resolveAccount(String socialType, String socialId, String email) {
+        String key = socialType + ":" + socialId;
+        SocialAccount cached = resolvedAccounts.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        String username = email == null || email.isBlank() ? null : email;
+        SocialAccount account = socialAccountRepository.upsert(socialType, socialId, username);
+        if (account.username() != null) {
+            userDetailsCache.invalidate(account.username()); // 새로 만들어진 경우 "없는 사용자"로 캐시된 값 제거
+        }
+
+        resolvedAccounts.put(key, account);
+        return account;
+    }
+}
@@ -1,16 +1,19 @@
 package com.example.mpa_login.user;
 
+import com.example.mpa_login.security.crypto.PasswordHashingRejectedException;
 import com.example.mpa_login.user.model.User;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 
-import java.util.regex.Pattern;
+import java.io.IOException;
 
 @RequiredArgsConstructor
 @Controller
@@ -34,11 +37,8 @@ public class UserController {
             BindingResult result, // 유효성 검사 결과를 담는 객체
             Model model // 뷰로 데이터를 전달하기 위한 객체
     ) {
-        // 이메일 형식을 검증하기 위한 정규 표현식
-        String emailPattern = "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+$";
-
-        // 사용자 이름(이메일)이 정규식과 일치하지 않으면 에러 처리
-        if (!Pattern.matches(emailPattern, user.getUsername())) {
+        // 사용자 이름(이메일) 형식이 올바르지 않으면 에러 처리
+        if (!EmailValidator.isValid(user.getUsername())) {
             // bindingResult에 에러 등록
             result.rejectValue("username", "error.user", "Invalid email format. Please enter a valid email address.");
             // 뷰에 표시할 에러 메시지 추가
@@ -50,15 +50,22 @@ public class UserController {
             return "register"; // register.html을 다시 렌더링
         }
 
-        // 이미 존재하는 사용자명(이메일)이 있는지 확인
-        if (userService.findByUsername(user.getUsername()).isPresent()) {
+        // 사용자 등록 처리 (이미 존재하는 사용자명이면 유니크 인덱스 위반으로 예외 발생)
+        try {
+            userService.registerUser(user.getUsername(), user.getPassword());
+        } catch (DuplicateUsernameException e) {
             // 중복 사용자 에러 메시지 추가
             model.addAttribute("error", "Username already exists");
             return "register"; // 다시 회원 가입 페이지로 이동
         }
 
-        // 사용자 등록 처리
-        userService.registerUser(user.getUsername(), user.getPassword());
         return "redirect:/login"; // 로그인 페이지로 리다이렉트
     }
+
+    // 비밀번호 해시 풀이 포화 상태면 재시도 안내(Retry-After)와 함께 503 응답 (로그인 실패 핸들러와 동일)
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public void handleHashingRejected(HttpServletResponse response) throws IOException {
+        response.setHeader("Retry-After", "1");
+        response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+    }
 }
@@ -2,6 +2,9 @@ package com.example.mpa_login.user;
 
 import com.example.mpa_login.user.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -9,4 +12,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // 사용자 이름으로 사용자 정보를 조회하는 메서드
     Optional<User> findByUsername(String username);
+
+    // 사용자 이름으로 비밀번호 해시만 갱신하는 메서드 (로그인 시 해시 업그레이드용)
+    @Modifying
+    @Query("update User u set u.password = :password where u.username = :username")
+    int updatePasswordByUsername(@Param("username") String username, @Param("password") String password);
 }
@@ -1,36 +1,87 @@
 package com.example.mpa_login.user;
 
+import com.example.mpa_login.security.UserDetailsCache;
 import com.example.mpa_login.user.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.Locale;
 import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
+    private static final String USERNAME_CONSTRAINT = "ux_users_username"; // User 엔티티의 username 유니크 인덱스 이름
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder; // 비밀번호 암호화를 위한 인코더
+    private final UserDetailsCache userDetailsCache; // 로그인 사용자 조회 캐시 (가입 시 무효화)
+
+    // 존재가 확인된 사용자 ID 캐시: 짧은 TTL 동안은 DB 조회 없이 계정 존재를 확인
+    // (존재하는 경우만 캐시하므로 신규 가입자는 바로 확인되고, 삭제된 계정은 TTL 이후 반영)
+    private final Cache<Long, Boolean> existingUserIds = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofSeconds(30))
+            .build();
 
     // 회원가입: 새 사용자를 등록하는 메서드
+    // 중복 확인은 별도 SELECT 없이 users.username 유니크 인덱스로 처리 (INSERT 1회, 동시 가입 경쟁 없음)
     public User registerUser(String username, String password) {
-        // 이미 동일한 username이 존재하는지 확인
-        if (userRepository.findByUsername(username).isPresent()) {
-            throw new RuntimeException("Username already exists");
-        }
-
         // 새로운 User 객체 생성 및 정보 설정
         User user = new User();
         user.setUsername(username);
         user.setPassword(passwordEncoder.encode(password));
 
-        return userRepository.save(user);
+        try {
+            User saved = userRepository.saveAndFlush(user);
+            userDetailsCache.invalidate(username); // "없는 사용자"로 캐시된 값 제거
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateUsername(e)) { // username 유니크 인덱스 위반: 이미 존재하는 username
+                throw new DuplicateUsernameException("Username already exists", e);
+            }
+            throw e; // 길이 초과, NOT NULL 등 다른 무결성 오류는 그대로 전달
+        }
+    }
+
+    // 중복 키 예외이거나 원인 중 ux_users_username 제약 조건 위반이 있는지 확인
+    private static boolean isDuplicateUsername(DataIntegrityViolationException e) {
+        if (e instanceof DuplicateKeyException) {
+            return true;
+        }
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String constraintName = violation.getConstraintName();
+                return constraintName != null
+                        && constraintName.toLowerCase(Locale.ROOT).contains(USERNAME_CONSTRAINT);
+            }
+        }
+        return false;
     }
 
     // 사용자 이름으로 사용자 정보를 조회하는 메서드
     public Optional<User> findByUsername(String username) {
         return userRepository.findByUsername(username);
     }
+
+    // 사용자 ID로 계정이 아직 존재하는지 확인하는 메서드 (짧은 TTL 캐시 사용)
+    public boolean existsById(Long userId) {
+        if (existingUserIds.getIfPresent(userId) != null) {
+            return true;
+        }
+
+        boolean exists = userRepository.existsById(userId);
+        if (exists) {
+            existingUserIds.put(userId, Boolean.TRUE);
+        }
+        return exists;
+    }
 }
@@ -5,26 +5,41 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.Instant;
 import java.util.Set;
 
 @Getter
 @Setter
 @Entity
-@Table(name = "users")
+// username 은 로그인 식별자이므로 유니크 인덱스로 선언 (로그인/회원가입 조회 시 사용)
+// 소셜 계정은 (social_type, social_id) 유니크 인덱스로 식별 (소셜 로그인 upsert 기준, 일반 계정은 둘 다 null)
+@Table(name = "users", indexes = {
+        @Index(name = "ux_users_username", columnList = "username", unique = true),
+        @Index(name = "ux_users_social_type_social_id", columnList = "social_type, social_id", unique = true)
+})
 public class User {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id; // 사용자 고유 ID
 
-    private String username; // 사용자 이름 (또는 이메일 등 로그인 식별자)
-    private String password; // 사용자 비밀번호 (암호화: BCryptPasswordEncoder 등)
+    private String username; // 사용자 이름 (또는 이메일 등 로그인 식별자), 이메일이 없는 소셜 계정은 null
+    private String password; // 사용자 비밀번호 (암호화: BCryptPasswordEncoder 등), 소셜 로그인 전용 계정은 null
 
     private String socialType; // 소셜 로그인 유형 (예: GOOGLE, KAKAO 등)
     private String socialId; // 소셜 로그인 ID (외부에서 제공자에게 받은 사용자 식별자)
 
+    private Instant lastLoginAt; // 마지막 로그인 시각 (LastLoginTracker 가 주기적으로 반영)
+    private long loginCount; // 누적 로그인 횟수
+
     // 사용자와 할 일 간의 1:N 관계 매핑
     // mappedBy: Todo 엔티티의 "user" 필드를 기준으로 관계를 설정함
-    @OneToMany(mappedBy = "user")
+    // LAZY: 사용자 조회 시 할 일을 읽지 않음, 개수 제한이 없으므로 직접 순회하지 말고 TodoRepository 의 페이지 조회 사용
+    @OneToMany(mappedBy = "user", fetch = FetchType.LAZY)
     private Set<Todo> todos; // 사용자가 소유한 할 일 목록
+
+    // 소셜 로그인으로 생성된(비밀번호로 로그인할 수 없는) 계정인지 여부
+    public boolean isSocialOnly() {
+        return password == null || socialType != null;
+    }
 }
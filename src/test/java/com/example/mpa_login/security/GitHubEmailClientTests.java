@@ -0,0 +1,53 @@
+package com.example.mpa_login.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class GitHubEmailClientTests {
+
+	private static final String BASE_URL = "http://localhost:8089";
+
+	private final RestTemplate restTemplate = new RestTemplate();
+	private final MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+	private final GitHubEmailClient client = new GitHubEmailClient(restTemplate, BASE_URL, Duration.ofMinutes(10));
+
+	@Test
+	void primaryEmailIsFetchedOnceAndCachedPerGitHubUser() {
+		server.expect(ExpectedCount.once(), requestTo(BASE_URL + "/user/emails"))
+				.andExpect(method(HttpMethod.GET))
+				.andExpect(header("Authorization", "Bearer token-1"))
+				.andRespond(withSuccess("""
+						[{"email":"work@example.com","primary":false},
+						 {"email":"hong@example.com","primary":true}]
+						""", MediaType.APPLICATION_JSON));
+
+		assertThat(client.getPrimaryEmail("123", "token-1")).isEqualTo("hong@example.com");
+		assertThat(client.getPrimaryEmail("123", "token-2")).isEqualTo("hong@example.com");
+
+		server.verify();
+	}
+
+	@Test
+	void missingPrimaryEmailIsNotCached() {
+		server.expect(ExpectedCount.twice(), requestTo(BASE_URL + "/user/emails"))
+				.andRespond(withSuccess("[{\"email\":\"work@example.com\",\"primary\":false}]", MediaType.APPLICATION_JSON));
+
+		assertThat(client.getPrimaryEmail("456", "token")).isNull();
+		assertThat(client.getPrimaryEmail("456", "token")).isNull();
+
+		server.verify();
+	}
+
+}
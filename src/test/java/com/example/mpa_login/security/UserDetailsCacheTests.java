@@ -0,0 +1,65 @@
+package com.example.mpa_login.security;
+
+import com.example.mpa_login.security.model.CustomUser;
+import com.example.mpa_login.security.model.UserAuthorities;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 가입 트랜잭션 안의 무효화는 커밋 이후에 반영되어, 커밋 전 조회가 "없는 사용자"를 다시 캐시하지 않음
+class UserDetailsCacheTests {
+
+	private final UserDetailsCache cache = new UserDetailsCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+
+	@AfterEach
+	void clearSynchronization() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void missingUserIsCachedUntilInvalidatedAfterCommit() {
+		CustomUser user = new CustomUser(1L, "hong@example.com", "hash", UserAuthorities.USER);
+		assertThat(cache.get("hong@example.com", username -> Optional.empty())).isEmpty();
+
+		TransactionSynchronizationManager.initSynchronization();
+		cache.invalidate("hong@example.com"); // 가입 트랜잭션 안에서 호출
+		assertThat(cache.get("hong@example.com", username -> Optional.of(user))).isEmpty(); // 아직 커밋 전
+
+		for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+		}
+		assertThat(cache.get("hong@example.com", username -> Optional.of(user))).contains(user);
+	}
+
+	@Test
+	void invalidationOutsideTransactionIsImmediate() {
+		CustomUser user = new CustomUser(1L, "hong@example.com", "hash", UserAuthorities.USER);
+		cache.get("hong@example.com", username -> Optional.empty());
+
+		cache.invalidate("hong@example.com");
+
+		assertThat(cache.get("hong@example.com", username -> Optional.of(user))).contains(user);
+	}
+
+	@Test
+	void resultLoadedDuringInvalidationIsNotCached() {
+		CustomUser user = new CustomUser(1L, "hong@example.com", "hash", UserAuthorities.USER);
+
+		// 조회 도중 가입이 커밋되어 무효화됨: 조회 결과(없는 사용자)는 반환만 하고 캐시하지 않음
+		assertThat(cache.get("hong@example.com", username -> {
+			cache.invalidate(username);
+			return Optional.empty();
+		})).isEmpty();
+
+		assertThat(cache.get("hong@example.com", username -> Optional.of(user))).contains(user);
+	}
+}
@@ -0,0 +1,157 @@
+package com.example.mpa_login.security.audit;
+
+import com.example.mpa_login.security.audit.AuthAuditPipeline.OverflowPolicy;
+import com.example.mpa_login.security.audit.model.AuthAuditRecord;
+import com.example.mpa_login.security.audit.model.AuthEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 대기열 초과 정책, 배치 기록, 종료 시 남은 기록 반영 (기록 스레드를 시작하지 않으면 destroy 에서만 기록됨)
+class AuthAuditPipelineTests {
+
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	// batchUpdate 호출마다 전달된 기록 (배치 목록은 기록 후 재사용되므로 복사해서 보관)
+	private final List<List<String>> writtenBatches = new CopyOnWriteArrayList<>();
+
+	@BeforeEach
+	void captureBatches() {
+		when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any())).thenAnswer(invocation -> {
+			List<String> usernames = new ArrayList<>();
+			for (Object record : invocation.<Collection<?>>getArgument(1)) {
+				usernames.add(((AuthAuditRecord) record).username());
+			}
+			writtenBatches.add(usernames);
+			return new int[0][];
+		});
+	}
+
+	@Test
+	void dropOldestKeepsNewestRecordsWhenFull() throws Exception {
+		AuthAuditPipeline pipeline = pipeline(2, OverflowPolicy.DROP_OLDEST, 200);
+
+		pipeline.submit(record("a"));
+		pipeline.submit(record("b"));
+		pipeline.submit(record("c"));
+		pipeline.destroy();
+
+		assertThat(writtenBatches).containsExactly(List.of("b", "c"));
+		assertThat(meterRegistry.counter("auth.audit.dropped").count()).isEqualTo(1);
+	}
+
+	@Test
+	void blockDropsNewRecordAfterTimeout() throws Exception {
+		AuthAuditPipeline pipeline = pipeline(2, OverflowPolicy.BLOCK, 200);
+
+		pipeline.submit(record("a"));
+		pipeline.submit(record("b"));
+		long start = System.nanoTime();
+		pipeline.submit(record("c"));
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(10)); // block-timeout 만큼 대기
+		pipeline.destroy();
+
+		assertThat(writtenBatches).containsExactly(List.of("a", "b"));
+		assertThat(meterRegistry.counter("auth.audit.dropped").count()).isEqualTo(1);
+	}
+
+	@Test
+	void destroyFlushesRemainingRecordsInBatches() throws Exception {
+		AuthAuditPipeline pipeline = pipeline(10, OverflowPolicy.DROP_OLDEST, 2);
+
+		for (String username : List.of("a", "b", "c", "d", "e")) {
+			pipeline.submit(record(username));
+		}
+		pipeline.destroy();
+
+		assertThat(writtenBatches).containsExactly(List.of("a", "b"), List.of("c", "d"), List.of("e"));
+	}
+
+	@Test
+	void writerThreadWritesQueuedRecordsTogether() throws Exception {
+		AuthAuditPipeline pipeline = pipeline(10, OverflowPolicy.DROP_OLDEST, 200);
+		pipeline.submit(record("a"));
+		pipeline.submit(record("b"));
+		pipeline.submit(record("c"));
+
+		pipeline.afterPropertiesSet(); // 기록 스레드 시작: 쌓여 있던 기록을 한 번의 배치로 기록
+		verify(jdbcTemplate, timeout(2_000)).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+		pipeline.destroy();
+
+		assertThat(writtenBatches).containsExactly(List.of("a", "b", "c"));
+	}
+
+	@Test
+	void failedBatchIsRetriedOneByOneAndOnlyBadRecordIsLost() throws Exception {
+		when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+				.thenThrow(new DataIntegrityViolationException("value too long"));
+		List<String> writtenOneByOne = new CopyOnWriteArrayList<>();
+		when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenAnswer(invocation -> {
+			String username = usernameOf(invocation.getArgument(1));
+			if (username.equals("bad")) {
+				throw new DataIntegrityViolationException("bad row");
+			}
+			writtenOneByOne.add(username);
+			return 1;
+		});
+		AuthAuditPipeline pipeline = pipeline(10, OverflowPolicy.DROP_OLDEST, 200);
+
+		pipeline.submit(record("a"));
+		pipeline.submit(record("bad"));
+		pipeline.submit(record("c"));
+		pipeline.destroy();
+
+		assertThat(writtenOneByOne).containsExactly("a", "c");
+		assertThat(meterRegistry.counter("auth.audit.write.failed").count()).isEqualTo(1);
+	}
+
+	@Test
+	void longFieldsAreTruncatedToColumnLength() {
+		AuthAuditRecord record = new AuthAuditRecord(Instant.now(), "LOGIN", "x".repeat(1_000), "form", "failure", "127.0.0.1");
+
+		assertThat(record.username()).hasSize(AuthEvent.USERNAME_LENGTH);
+	}
+
+	private AuthAuditPipeline pipeline(int capacity, OverflowPolicy policy, int batchSize) {
+		return new AuthAuditPipeline(jdbcTemplate, meterRegistry, capacity, policy,
+				Duration.ofMillis(10), batchSize, Duration.ofMillis(50));
+	}
+
+	private static AuthAuditRecord record(String username) {
+		return new AuthAuditRecord(Instant.now(), "LOGIN", username, "form", "SUCCESS", "127.0.0.1");
+	}
+
+	// PreparedStatementSetter 가 바인딩한 username (3번째 파라미터)
+	private static String usernameOf(PreparedStatementSetter setter) throws SQLException {
+		PreparedStatement ps = mock(PreparedStatement.class);
+		setter.setValues(ps);
+		ArgumentCaptor<String> username = ArgumentCaptor.forClass(String.class);
+		verify(ps).setString(eq(3), username.capture());
+		return username.getValue();
+	}
+}
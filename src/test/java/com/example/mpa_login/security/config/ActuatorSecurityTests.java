@@ -0,0 +1,59 @@
+package com.example.mpa_login.security.config;
+
+import com.example.mpa_login.security.model.CustomUser;
+import com.example.mpa_login.security.model.UserAuthorities;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// /actuator/health 만 공개, 지표는 허용된 주소(기본 localhost)에서만 조회 가능
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ActuatorSecurityTests {
+
+	private static final String REMOTE_ADDRESS = "203.0.113.7";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void healthIsPublic() throws Exception {
+		mockMvc.perform(get("/actuator/health").with(remote()))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void metricsAreReadableFromAllowedAddress() throws Exception {
+		// MockMvc 기본 주소 127.0.0.1 (테스트에서는 Prometheus 내보내기가 꺼져 있으므로 /actuator/metrics 로 확인)
+		mockMvc.perform(get("/actuator/metrics"))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void metricsAreHiddenFromOtherAddresses() throws Exception {
+		mockMvc.perform(get("/actuator/prometheus").with(remote()))
+				.andExpect(status().isUnauthorized()); // 익명 요청 (브라우저가 아닌 수집기는 401)
+
+		CustomUser loggedIn = new CustomUser(1L, "hong@example.com", "", UserAuthorities.USER);
+		mockMvc.perform(get("/actuator/prometheus").with(remote()).with(user(loggedIn)))
+				.andExpect(status().isForbidden()); // 로그인한 사용자도 조회 불가
+		mockMvc.perform(get("/actuator/metrics").with(remote()).with(user(loggedIn)))
+				.andExpect(status().isForbidden());
+	}
+
+	private static RequestPostProcessor remote() {
+		return request -> {
+			request.setRemoteAddr(REMOTE_ADDRESS);
+			return request;
+		};
+	}
+}
@@ -0,0 +1,31 @@
+package com.example.mpa_login.security.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 무상태 모드 서명 키 검증: 비어 있거나 32바이트 미만이면 기동 실패
+class StatelessSessionConfigTests {
+
+	private final StatelessSessionConfig config = new StatelessSessionConfig();
+
+	@Test
+	void blankSecretIsRejected() {
+		assertThatThrownBy(() -> config.signedTokenCodec(" "))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("token-secret is required");
+	}
+
+	@Test
+	void secretShorterThan32BytesIsRejected() {
+		assertThatThrownBy(() -> config.signedTokenCodec("a".repeat(31)))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("at least 32 bytes");
+	}
+
+	@Test
+	void secretOf32BytesIsAccepted() {
+		assertThat(config.signedTokenCodec("a".repeat(32))).isNotNull();
+	}
+}
@@ -0,0 +1,96 @@
+package com.example.mpa_login.security.crypto;
+
+import com.example.mpa_login.security.LoginMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 해시 스레드 풀과 대기열이 가득 차면 기다리지 않고 바로 거절
+class OffloadedPasswordEncoderTests {
+
+	private final CountDownLatch started = new CountDownLatch(1);
+	private final CountDownLatch release = new CountDownLatch(1);
+	private final ExecutorService callers = Executors.newSingleThreadExecutor();
+
+	// 해시 계산이 release 될 때까지 끝나지 않는 인코더
+	private final PasswordEncoder slowEncoder = new PasswordEncoder() {
+		@Override
+		public String encode(CharSequence rawPassword) {
+			return "hash:" + rawPassword;
+		}
+
+		@Override
+		public boolean matches(CharSequence rawPassword, String encodedPassword) {
+			started.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return encodedPassword.equals(encode(rawPassword));
+		}
+	};
+
+	private final OffloadedPasswordEncoder encoder = new OffloadedPasswordEncoder(slowEncoder, 1, 1,
+			Duration.ofSeconds(5), new LoginMetrics(new SimpleMeterRegistry()));
+
+	@AfterEach
+	void shutdown() {
+		release.countDown();
+		callers.shutdownNow();
+		encoder.destroy();
+	}
+
+	@Test
+	void hashingRunsOnPool() {
+		release.countDown();
+
+		assertThat(encoder.matches("secret", "hash:secret")).isTrue();
+		assertThat(encoder.encode("secret")).isEqualTo("hash:secret");
+	}
+
+	@Test
+	void fullQueueIsRejectedImmediately() throws Exception {
+		callers.submit(() -> encoder.matches("a", "hash:a")); // 스레드 1개 사용 중
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		Thread queued = new Thread(() -> encoder.matches("b", "hash:b")); // 대기열 1칸 사용
+		queued.start();
+		awaitResultWait(queued);
+
+		assertThatThrownBy(() -> encoder.matches("c", "hash:c"))
+				.isInstanceOf(PasswordHashingRejectedException.class)
+				.hasMessageContaining("queue is full");
+	}
+
+	@Test
+	void slowHashingTimesOut() {
+		OffloadedPasswordEncoder impatient = new OffloadedPasswordEncoder(slowEncoder, 1, 1,
+				Duration.ofMillis(50), new LoginMetrics(new SimpleMeterRegistry()));
+		try {
+			assertThatThrownBy(() -> impatient.matches("a", "hash:a"))
+					.isInstanceOf(PasswordHashingRejectedException.class)
+					.hasMessageContaining("timed out");
+		} finally {
+			impatient.destroy();
+		}
+	}
+
+	// 제출을 마치고 결과를 기다리는 상태(future.get)가 될 때까지 대기
+	private static void awaitResultWait(Thread caller) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (caller.getState() != Thread.State.TIMED_WAITING && System.nanoTime() < deadline) {
+			Thread.sleep(5);
+		}
+		assertThat(caller.getState()).isEqualTo(Thread.State.TIMED_WAITING);
+	}
+}
@@ -0,0 +1,38 @@
+package com.example.mpa_login.security.handler;
+
+import com.example.mpa_login.security.crypto.PasswordHashingRejectedException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.web.savedrequest.NullRequestCache;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomLoginFailureHandlerTests {
+
+	private final CustomLoginFailureHandler handler = new CustomLoginFailureHandler(new NullRequestCache());
+
+	@Test
+	void rejectedHashingIsAnswered503WithRetryAfter() throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		handler.onAuthenticationFailure(new MockHttpServletRequest(), response,
+				new PasswordHashingRejectedException("Password hashing queue is full", new RejectedExecutionException()));
+
+		assertThat(response.getStatus()).isEqualTo(503);
+		assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+	}
+
+	@Test
+	void badCredentialsRedirectToLoginError() throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		handler.onAuthenticationFailure(new MockHttpServletRequest(), response, new BadCredentialsException("bad"));
+
+		assertThat(response.getRedirectedUrl()).isEqualTo("/login?error");
+		assertThat(response.getHeader("Retry-After")).isNull();
+	}
+}
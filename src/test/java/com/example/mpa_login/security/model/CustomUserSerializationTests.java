@@ -0,0 +1,96 @@
+package com.example.mpa_login.security.model;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 세션에 저장되는 SecurityContext 크기 확인
+ * - 세션 하나당 직렬화 바이트 수가 상한(측정값 + 약 10%)을 넘으면 실패 (principal 에 필드가 늘어나는 회귀 방지)
+ */
+class CustomUserSerializationTests {
+
+	private static final int MAX_OAUTH2_SESSION_BYTES = 1_400;
+	private static final int MAX_FORM_SESSION_BYTES = 1_250;
+
+	private static final Map<String, Object> KAKAO_ATTRIBUTES = Map.of(
+			"id", 123456789L,
+			"kakao_account", Map.of(
+					"email", "hong@example.com",
+					"profile", Map.of(
+							"nickname", "홍길동",
+							"profile_image_url", "https://example.com/hong.png")));
+
+	@Test
+	void oauth2SessionKeepsOnlyCompactFields() throws Exception {
+		OAuthAttributes attributes = OAuthAttributes.builder()
+				.attributes(KAKAO_ATTRIBUTES)
+				.nameAttributeKey("id")
+				.id("123456789")
+				.name("홍길동")
+				.email("hong@example.com")
+				.picture("https://example.com/hong.png")
+				.build();
+		CustomUser user = new CustomUser(1L, "hong@example.com", UserAuthorities.USER, attributes);
+		SecurityContextImpl context = new SecurityContextImpl(
+				new OAuth2AuthenticationToken(user, user.getAuthorities(), "kakao"));
+
+		byte[] session = serialize(context);
+		// 측정값 1,251 bytes (이전 구조는 제공자 응답 299 bytes + 권한 목록 181 bytes 를 추가로 저장)
+		assertThat(session.length).isLessThanOrEqualTo(MAX_OAUTH2_SESSION_BYTES);
+
+		// 제공자 응답의 중첩 구조는 세션에 저장되지 않음
+		assertThat(new String(session, StandardCharsets.ISO_8859_1)).doesNotContain("kakao_account");
+
+		CustomUser restored = (CustomUser) ((SecurityContextImpl) deserialize(session)).getAuthentication().getPrincipal();
+		assertThat(restored.getUserId()).isEqualTo(1L);
+		assertThat(restored.getAuthorities()).isSameAs(UserAuthorities.USER);
+		assertThat(restored.getAttributes())
+				.containsEntry("id", "123456789")
+				.containsEntry("name", "홍길동")
+				.containsEntry("email", "hong@example.com")
+				.containsEntry("picture", "https://example.com/hong.png");
+	}
+
+	@Test
+	void formLoginSessionDoesNotStorePasswordHash() throws Exception {
+		CustomUser user = new CustomUser(1L, "hong@example.com", "{bcrypt}$2a$10$abcdefghijklmnopqrstuv", UserAuthorities.USER);
+		SecurityContextImpl context = new SecurityContextImpl(
+				UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities()));
+
+		byte[] session = serialize(context);
+		assertThat(session.length).isLessThanOrEqualTo(MAX_FORM_SESSION_BYTES); // 측정값 1,105 bytes
+
+		assertThat(new String(session, StandardCharsets.ISO_8859_1)).doesNotContain("$2a$10$");
+
+		CustomUser restored = (CustomUser) ((SecurityContextImpl) deserialize(session)).getAuthentication().getPrincipal();
+		assertThat(restored.getUsername()).isEqualTo("hong@example.com");
+		assertThat(restored.getPassword()).isNull();
+		assertThat(restored.getAuthorities()).isSameAs(UserAuthorities.USER);
+	}
+
+	private static byte[] serialize(Object value) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(value);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			return in.readObject();
+		}
+	}
+}
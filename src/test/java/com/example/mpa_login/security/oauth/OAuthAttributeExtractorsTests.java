@@ -0,0 +1,80 @@
+package com.example.mpa_login.security.oauth;
+
+import com.example.mpa_login.security.model.OAuthAttributes;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.core.io.support.ResourcePropertySource;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OAuthAttributeExtractorsTests {
+
+	// application.properties 에 설정된 매핑 그대로 사용
+	private final OAuthAttributeExtractors extractors = configuredExtractors();
+
+	@Test
+	void googleUsesSubAsId() {
+		OAuthAttributes attributes = extractors.get("google").extract("sub", Map.of(
+				"sub", "123456789",
+				"name", "홍길동",
+				"email", "hong@example.com",
+				"picture", "https://example.com/hong.png"));
+
+		assertThat(attributes.getId()).isEqualTo("123456789");
+		assertThat(attributes.getNameAttributeKey()).isEqualTo("sub");
+		assertThat(attributes.getEmail()).isEqualTo("hong@example.com");
+	}
+
+	@Test
+	void kakaoReadsNestedProfileAndNumericId() {
+		OAuthAttributes attributes = extractors.get("kakao").extract("id", Map.of(
+				"id", 123456789L,
+				"kakao_account", Map.of(
+						"email", "hong@example.com",
+						"profile", Map.of(
+								"nickname", "홍길동",
+								"profile_image_url", "https://example.com/hong.png"))));
+
+		assertThat(attributes.getId()).isEqualTo("123456789");
+		assertThat(attributes.getName()).isEqualTo("홍길동");
+		assertThat(attributes.getEmail()).isEqualTo("hong@example.com");
+		assertThat(attributes.getPicture()).isEqualTo("https://example.com/hong.png");
+	}
+
+	@Test
+	void naverReadsResponseObjectAndOverridesNameAttributeKey() {
+		OAuthAttributes attributes = extractors.get("naver").extract("response", Map.of(
+				"resultcode", "00",
+				"response", Map.of("id", "abc", "name", "홍길동")));
+
+		assertThat(attributes.getId()).isEqualTo("abc");
+		assertThat(attributes.getNameAttributeKey()).isEqualTo("id");
+		assertThat(attributes.getEmail()).isNull();
+	}
+
+	@Test
+	void unknownProviderFailsInsteadOfFallingBackToGitHub() {
+		assertThatThrownBy(() -> extractors.get("facebook"))
+				.isInstanceOf(OAuth2AuthenticationException.class)
+				.extracting(e -> ((OAuth2AuthenticationException) e).getError().getErrorCode())
+				.isEqualTo(OAuthAttributeExtractors.UNSUPPORTED_PROVIDER);
+	}
+
+	static OAuthAttributeExtractors configuredExtractors() {
+		try {
+			Binder binder = new Binder(ConfigurationPropertySources.from(
+					new ResourcePropertySource("classpath:application.properties")));
+			OAuthAttributeMappingProperties properties = binder
+					.bind("oauth2.attribute-mapping", OAuthAttributeMappingProperties.class).get();
+			return new OAuthAttributeExtractors(properties.getProviders());
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
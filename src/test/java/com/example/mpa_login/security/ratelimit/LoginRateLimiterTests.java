@@ -0,0 +1,39 @@
+package com.example.mpa_login.security.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginRateLimiterTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final LoginRateLimiter limiter = new LoginRateLimiter(meterRegistry, true, 3, 10, Duration.ofMinutes(15), 1000);
+
+	@Test
+	void blocksUsernameAfterMaxFailuresAndResetsOnSuccess() {
+		for (int i = 0; i < 3; i++) {
+			assertThat(limiter.isBlocked("hong@example.com", "10.0.0.1")).isFalse();
+			limiter.recordFailure("hong@example.com", "10.0.0.1");
+		}
+
+		assertThat(limiter.isBlocked("HONG@example.com", "10.0.0.2")).isTrue();
+		assertThat(meterRegistry.get("login.rate_limit.rejected").tag("key", "username").counter().count()).isEqualTo(1.0);
+
+		limiter.reset("hong@example.com");
+		assertThat(limiter.isBlocked("hong@example.com", "10.0.0.1")).isFalse();
+	}
+
+	@Test
+	void blocksIpAcrossUsernames() {
+		for (int i = 0; i < 10; i++) {
+			limiter.recordFailure("user" + i + "@example.com", "10.0.0.9");
+		}
+
+		assertThat(limiter.isBlocked("new@example.com", "10.0.0.9")).isTrue();
+		assertThat(limiter.isBlocked("new@example.com", "10.0.0.10")).isFalse();
+		assertThat(meterRegistry.get("login.rate_limit.rejected").tag("key", "ip").counter().count()).isEqualTo(1.0);
+	}
+}
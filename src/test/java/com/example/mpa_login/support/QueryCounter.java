@@ -0,0 +1,40 @@
+package com.example.mpa_login.support;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JDBC 문장 수 검증 도우미 (QueryCounterConfig 가 DataSource 를 감싸서 기록)
+ * - Hibernate 와 JdbcTemplate 이 실행하는 문장을 모두 셈 (커넥션에서 준비/실행되는 SQL 기준)
+ * - reset() 을 호출한 스레드의 문장만 기록하므로 스케줄러, 감사 로그 작성 스레드 등의 문장은 제외됨
+ *   (MockMvc 요청은 테스트 스레드에서 처리됨)
+ */
+public class QueryCounter {
+
+	private final List<String> statements = new CopyOnWriteArrayList<>();
+	private volatile Thread owner;
+
+	public void reset() {
+		owner = Thread.currentThread();
+		statements.clear();
+	}
+
+	void record(String sql) {
+		if (Thread.currentThread() == owner) {
+			statements.add(sql);
+		}
+	}
+
+	public List<String> statements() {
+		return List.copyOf(statements);
+	}
+
+	// 실행한 문장 수가 예상치 이하인지 확인 (실패 시 실행된 SQL 목록 출력)
+	public void assertAtMost(String description, int expectedStatements) {
+		assertThat(statements)
+				.as("%s: statements", description)
+				.hasSizeLessThanOrEqualTo(expectedStatements);
+	}
+}
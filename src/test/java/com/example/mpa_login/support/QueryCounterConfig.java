@@ -0,0 +1,89 @@
+package com.example.mpa_login.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * 테스트용 DataSource 감싸기: 커넥션에서 준비(prepareStatement, prepareCall)하거나
+ * 직접 실행(Statement.execute*, addBatch)하는 SQL 을 QueryCounter 에 기록
+ * - 사용: @Import(QueryCounterConfig.class) 후 QueryCounter 주입
+ * - unwrap 등 나머지 호출은 원래 DataSource(HikariDataSource)로 그대로 전달
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class QueryCounterConfig {
+
+	private static final Set<String> PREPARE_METHODS = Set.of("prepareStatement", "prepareCall");
+	private static final Set<String> EXECUTE_METHODS = Set.of(
+			"execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "addBatch");
+
+	@Bean
+	static QueryCounter queryCounter() {
+		return new QueryCounter();
+	}
+
+	@Bean
+	static BeanPostProcessor queryCountingDataSourcePostProcessor(QueryCounter queryCounter) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DataSource dataSource) {
+					return proxy(DataSource.class, dataSource, (target, method, args) -> {
+						Object result = invoke(target, method, args);
+						return result instanceof Connection connection ? countingConnection(connection, queryCounter) : result;
+					});
+				}
+				return bean;
+			}
+		};
+	}
+
+	private static Connection countingConnection(Connection connection, QueryCounter queryCounter) {
+		return proxy(Connection.class, connection, (target, method, args) -> {
+			if (PREPARE_METHODS.contains(method.getName())) {
+				queryCounter.record((String) args[0]);
+			}
+			Object result = invoke(target, method, args);
+			if ("createStatement".equals(method.getName())) {
+				return countingStatement((Statement) result, queryCounter);
+			}
+			return result;
+		});
+	}
+
+	private static Statement countingStatement(Statement statement, QueryCounter queryCounter) {
+		return proxy(Statement.class, statement, (target, method, args) -> {
+			if (EXECUTE_METHODS.contains(method.getName()) && args != null && args.length > 0 && args[0] instanceof String sql) {
+				queryCounter.record(sql);
+			}
+			return invoke(target, method, args);
+		});
+	}
+
+	private interface Handler<T> {
+		Object handle(T target, Method method, Object[] args) throws Throwable;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> type, T target, Handler<T> handler) {
+		InvocationHandler invocationHandler = (proxy, method, args) -> handler.handle(target, method, args);
+		return (T) Proxy.newProxyInstance(QueryCounterConfig.class.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package com.example.mpa_login.todo;
+
+import com.example.mpa_login.security.model.CustomUser;
+import com.example.mpa_login.security.model.UserAuthorities;
+import com.example.mpa_login.todo.model.Todo;
+import com.example.mpa_login.user.UserRepository;
+import com.example.mpa_login.user.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+// /todos 화면 요청: 버전 충돌 시 409 + 최신 값으로 다시 수정하는 흐름, 페이지 링크의 크기 유지
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TodoControllerTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TodoRepository todoRepository;
+
+	@MockitoSpyBean
+	private TodoService todoService;
+
+	private User owner;
+	private CustomUser principal;
+	private Todo todo;
+
+	@BeforeEach
+	void setUp() {
+		owner = new User();
+		owner.setUsername(UUID.randomUUID() + "@example.com");
+		owner = userRepository.save(owner);
+
+		Todo newTodo = new Todo();
+		newTodo.setTitle("original");
+		newTodo.setDescription("original description");
+		newTodo.setUser(owner);
+		todo = todoRepository.save(newTodo);
+
+		principal = new CustomUser(owner.getId(), owner.getUsername(), "", UserAuthorities.USER);
+	}
+
+	@Test
+	void staleUpdateShowsConflictAndSecondSubmitSucceeds() throws Exception {
+		long staleVersion = todo.getVersion();
+		todoService.updateTodo(todo.getId(), "other tab", "saved first", staleVersion, owner); // 다른 탭에서 먼저 저장
+		long latestVersion = staleVersion + 1;
+
+		mockMvc.perform(post("/todos/update/{id}", todo.getId()).with(user(principal)).with(csrf())
+						.param("title", "mine")
+						.param("description", "my description")
+						.param("version", String.valueOf(staleVersion)))
+				.andExpect(status().isConflict())
+				.andExpect(view().name("edit_todo"))
+				.andExpect(model().attribute("latest", hasProperty("title", is("other tab"))))
+				.andExpect(model().attribute("todo", hasProperty("title", is("mine"))))
+				.andExpect(model().attribute("todo", hasProperty("version", is(latestVersion))));
+
+		// 폼에 다시 채워진 버전으로 재제출하면 저장됨
+		mockMvc.perform(post("/todos/update/{id}", todo.getId()).with(user(principal)).with(csrf())
+						.param("title", "mine")
+						.param("description", "my description")
+						.param("version", String.valueOf(latestVersion)))
+				.andExpect(redirectedUrl("/todos"));
+
+		Todo saved = todoRepository.findById(todo.getId()).orElseThrow();
+		assertThat(saved.getTitle()).isEqualTo("mine");
+		assertThat(saved.getVersion()).isEqualTo(latestVersion + 1);
+	}
+
+	@Test
+	void conflictOnTodoDeletedMeanwhileRedirectsToList() throws Exception {
+		doThrow(new TodoConflictException("Todo was modified by another request"))
+				.when(todoService).updateTodo(anyLong(), anyString(), anyString(), anyLong(), any());
+		todoRepository.deleteById(todo.getId()); // 충돌 확인 후 최신 값을 읽기 전에 삭제됨
+
+		mockMvc.perform(post("/todos/update/{id}", todo.getId()).with(user(principal)).with(csrf())
+						.param("title", "mine")
+						.param("description", "my description")
+						.param("version", String.valueOf(todo.getVersion())))
+				.andExpect(redirectedUrl("/todos"));
+	}
+
+	@Test
+	void pageLinksKeepRequestedSize() throws Exception {
+		Todo second = new Todo();
+		second.setTitle("second");
+		second.setUser(owner);
+		todoRepository.save(second);
+
+		mockMvc.perform(get("/todos").with(user(principal)).param("size", "1"))
+				.andExpect(status().isOk())
+				.andExpect(model().attribute("size", 1))
+				.andExpect(content().string(containsString("/todos?after=" + todo.getId() + "&amp;size=1")));
+	}
+}
@@ -0,0 +1,84 @@
+package com.example.mpa_login.todo;
+
+import com.example.mpa_login.todo.model.Todo;
+import com.example.mpa_login.todo.model.TodoCounts;
+import com.example.mpa_login.user.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 개수 행이 없는 사용자는 조회 시 집계만 하고, 행 생성은 TodoCountBackfillJob 이 담당
+@DataJpaTest
+@Import(TodoCountRepository.class)
+class TodoCountRepositoryTests {
+
+	@Autowired
+	private TodoCountRepository todoCountRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		user = new User();
+		user.setUsername("hong");
+		entityManager.persist(user);
+
+		persistTodo("open 1", false);
+		persistTodo("open 2", false);
+		persistTodo("done", true);
+		entityManager.flush();
+	}
+
+	@Test
+	void missingRowIsCountedWithoutWriting() {
+		assertThat(todoCountRepository.findByUserId(user.getId())).isEqualTo(new TodoCounts(2, 1));
+		assertThat(countRows()).isZero(); // 조회 요청에서는 행을 만들지 않음
+	}
+
+	@Test
+	void deltasAreAppliedToExistingRow() {
+		assertThat(todoCountRepository.backfill(user.getId())).isTrue();
+
+		todoCountRepository.addCounts(user.getId(), -1, 1);
+
+		assertThat(todoCountRepository.findByUserId(user.getId())).isEqualTo(new TodoCounts(1, 2));
+	}
+
+	@Test
+	void deltaWithoutRowIsCoveredByLaterBackfill() {
+		persistTodo("open 3", false);
+		entityManager.flush();
+
+		todoCountRepository.addCounts(user.getId(), 1, 0); // 행이 없으므로 반영하지 않음
+		assertThat(countRows()).isZero();
+
+		TodoCountBackfillJob job = new TodoCountBackfillJob(todoCountRepository, 1);
+		assertThat(job.backfill()).isEqualTo(1); // 방금 추가한 할 일까지 집계
+		assertThat(job.backfill()).isZero(); // 이미 생성된 사용자는 건너뜀
+		assertThat(todoCountRepository.findByUserId(user.getId())).isEqualTo(new TodoCounts(3, 1));
+	}
+
+	private int countRows() {
+		return jdbcTemplate.queryForObject("select count(*) from todo_counts", Integer.class);
+	}
+
+	private void persistTodo(String title, boolean completed) {
+		Todo todo = new Todo();
+		todo.setTitle(title);
+		todo.setCompleted(completed);
+		todo.setUser(user);
+		entityManager.persist(todo);
+	}
+}
@@ -0,0 +1,69 @@
+package com.example.mpa_login.todo;
+
+import com.example.mpa_login.todo.model.TodoPage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+// 트랜잭션 안에서 요청한 무효화는 커밋(완료) 이후에 반영됨
+class TodoListCacheTests {
+
+	private final TodoListCache cache = new TodoListCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+	private final AtomicInteger loads = new AtomicInteger();
+	private final Supplier<TodoPage> loader = () -> {
+		loads.incrementAndGet();
+		return mock(TodoPage.class);
+	};
+
+	@AfterEach
+	void clearSynchronization() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void cachedPageIsReused() {
+		TodoPage first = cache.get(1L, "first", loader);
+
+		assertThat(cache.get(1L, "first", loader)).isSameAs(first);
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void invalidationInsideTransactionIsDeferredUntilCompletion() {
+		cache.get(1L, "first", loader);
+		TransactionSynchronizationManager.initSynchronization();
+
+		cache.invalidate(1L);
+		cache.get(1L, "first", loader); // 커밋 전에는 기존 엔트리 유지
+		assertThat(loads).hasValue(1);
+
+		for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+		}
+		cache.get(1L, "first", loader);
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void invalidationOutsideTransactionIsImmediate() {
+		cache.get(1L, "first", loader);
+		cache.get(2L, "first", loader);
+
+		cache.invalidate(1L);
+		cache.get(1L, "first", loader);
+		cache.get(2L, "first", loader); // 다른 사용자의 엔트리는 유지
+
+		assertThat(loads).hasValue(3);
+	}
+}
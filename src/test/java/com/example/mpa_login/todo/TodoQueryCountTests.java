@@ -0,0 +1,139 @@
+package com.example.mpa_login.todo;
+
+import com.example.mpa_login.security.model.CustomUser;
+import com.example.mpa_login.security.model.UserAuthorities;
+import com.example.mpa_login.support.QueryCounter;
+import com.example.mpa_login.support.QueryCounterConfig;
+import com.example.mpa_login.todo.model.Todo;
+import com.example.mpa_login.user.UserRepository;
+import com.example.mpa_login.user.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// /todos 화면 요청별 JDBC 문장 수 상한 (Hibernate + JdbcTemplate, 연관 엔티티 추가 로딩이나 N+1 이 생기면 실패)
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(QueryCounterConfig.class)
+class TodoQueryCountTests {
+
+	private static final int TODO_COUNT = 30; // 한 페이지(20건)보다 많게
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TodoRepository todoRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TodoCountBackfillJob todoCountBackfillJob;
+
+	@Autowired
+	private QueryCounter queryCounter;
+
+	private CustomUser principal;
+	private Todo todo;
+
+	@BeforeEach
+	void setUp() {
+		User owner = new User();
+		owner.setUsername(UUID.randomUUID() + "@example.com");
+		owner = userRepository.save(owner);
+
+		List<Todo> todos = new ArrayList<>();
+		for (int i = 0; i < TODO_COUNT; i++) {
+			Todo newTodo = new Todo();
+			newTodo.setTitle("todo " + i);
+			newTodo.setDescription("description " + i);
+			newTodo.setUser(owner);
+			todos.add(newTodo);
+		}
+		todo = todoRepository.saveAll(todos).get(0);
+
+		principal = new CustomUser(owner.getId(), owner.getUsername(), "", UserAuthorities.USER);
+		todoCountBackfillJob.backfill(); // 개수 행이 있는 평상시 상태
+		queryCounter.reset();
+	}
+
+	@Test
+	void listTodos() throws Exception {
+		mockMvc.perform(get("/todos").with(user(principal)))
+				.andExpect(status().isOk());
+
+		// 계정 존재 확인 1 + 페이지 조회 1 + 개수 조회 1
+		queryCounter.assertAtMost("GET /todos", 3);
+		assertThat(queryCounter.statements()).anyMatch(sql -> sql.contains("todo_counts")); // JdbcTemplate 문장도 기록됨
+	}
+
+	@Test
+	void listTodosBeforeCountBackfill() throws Exception {
+		jdbcTemplate.update("delete from todo_counts where user_id = ?", principal.getUserId());
+		queryCounter.reset();
+
+		mockMvc.perform(get("/todos").with(user(principal)))
+				.andExpect(status().isOk());
+
+		// 계정 존재 확인 1 + 페이지 조회 1 + 개수 조회 1 + todos 집계 1 (쓰기 없음)
+		queryCounter.assertAtMost("GET /todos (no count row)", 4);
+		assertThat(queryCounter.statements()).noneMatch(sql -> sql.startsWith("insert"));
+	}
+
+	@Test
+	void editTodo() throws Exception {
+		mockMvc.perform(get("/todos/edit/" + todo.getId()).with(user(principal)))
+				.andExpect(status().isOk());
+
+		// 소유자 조건 단건 조회 1 (users 조회 없음)
+		queryCounter.assertAtMost("GET /todos/edit/{id}", 1);
+	}
+
+	@Test
+	void updateTodo() throws Exception {
+		mockMvc.perform(post("/todos/update/" + todo.getId())
+						.param("title", "updated")
+						.param("description", "updated description")
+						.param("version", String.valueOf(todo.getVersion()))
+						.with(user(principal))
+						.with(csrf()))
+				.andExpect(status().is3xxRedirection());
+
+		// 소유자 + 버전 조건 UPDATE 1
+		queryCounter.assertAtMost("POST /todos/update/{id}", 1);
+	}
+
+	@Test
+	void deleteTodo() throws Exception {
+		mockMvc.perform(post("/todos/delete/" + todo.getId())
+						.with(user(principal))
+						.with(csrf()))
+				.andExpect(status().is3xxRedirection());
+
+		// 미완료 조건 DELETE 1 + 개수 감소 1 (삭제 전 조회 없음, 완료된 할 일이면 완료 조건 DELETE 1회 추가)
+		queryCounter.assertAtMost("POST /todos/delete/{id}", 2);
+		assertThat(queryCounter.statements()).noneMatch(sql -> sql.startsWith("select"));
+	}
+}
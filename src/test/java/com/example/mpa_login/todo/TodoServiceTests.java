@@ -0,0 +1,183 @@
+package com.example.mpa_login.todo;
+
+import com.example.mpa_login.todo.model.Todo;
+import com.example.mpa_login.todo.model.TodoCounts;
+import com.example.mpa_login.todo.model.TodoPage;
+import com.example.mpa_login.todo.model.TodoSummary;
+import com.example.mpa_login.user.UserRepository;
+import com.example.mpa_login.user.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 소유자 조건이 들어간 변경 쿼리와 일괄 처리 소유권 확인 (다른 사용자의 할 일이 섞이면 아무것도 바꾸지 않음), 키셋 페이지 이동
+@SpringBootTest
+@ActiveProfiles("test")
+class TodoServiceTests {
+
+	@Autowired
+	private TodoService todoService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TodoRepository todoRepository;
+
+	private User owner;
+	private User other;
+	private Todo own1;
+	private Todo own2;
+	private Todo othersTodo;
+
+	@BeforeEach
+	void setUp() {
+		owner = saveUser();
+		other = saveUser();
+		own1 = saveTodo(owner, "own 1");
+		own2 = saveTodo(owner, "own 2");
+		othersTodo = saveTodo(other, "other");
+	}
+
+	@Test
+	void batchCompleteOfOwnTodosUpdatesCounts() {
+		int updated = todoService.completeTodos(List.of(own1.getId(), own2.getId()), owner);
+
+		assertThat(updated).isEqualTo(2);
+		assertThat(todoService.getTodoCounts(owner.getId())).isEqualTo(new TodoCounts(0, 2));
+	}
+
+	@Test
+	void batchCompleteWithOthersTodoChangesNothing() {
+		assertThatThrownBy(() -> todoService.completeTodos(List.of(own1.getId(), othersTodo.getId()), owner))
+				.isInstanceOf(IllegalArgumentException.class);
+
+		assertThat(reload(own1).isCompleted()).isFalse();
+		assertThat(reload(othersTodo).isCompleted()).isFalse();
+	}
+
+	@Test
+	void batchDeleteWithOthersTodoChangesNothing() {
+		assertThatThrownBy(() -> todoService.deleteTodos(List.of(own1.getId(), othersTodo.getId()), owner))
+				.isInstanceOf(IllegalArgumentException.class);
+
+		assertThat(todoRepository.existsById(own1.getId())).isTrue();
+		assertThat(todoRepository.existsById(othersTodo.getId())).isTrue();
+	}
+
+	@Test
+	void batchDeleteWithMissingIdChangesNothing() {
+		assertThatThrownBy(() -> todoService.deleteTodos(List.of(own1.getId(), Long.MAX_VALUE), owner))
+				.isInstanceOf(IllegalArgumentException.class);
+
+		assertThat(todoRepository.existsById(own1.getId())).isTrue();
+	}
+
+	@Test
+	void batchDeleteOfOwnTodosUpdatesCounts() {
+		todoService.setCompleted(own2.getId(), true, owner);
+
+		int deleted = todoService.deleteTodos(List.of(own1.getId(), own2.getId()), owner);
+
+		assertThat(deleted).isEqualTo(2);
+		assertThat(todoService.getTodoCounts(owner.getId())).isEqualTo(new TodoCounts(0, 0));
+	}
+
+	@Test
+	void singleDeleteDecrementsMatchingCount() {
+		todoService.setCompleted(own2.getId(), true, owner);
+
+		todoService.deleteTodoById(own1.getId(), owner); // 미완료
+		todoService.deleteTodoById(own2.getId(), owner); // 완료
+
+		assertThat(todoService.getTodoCounts(owner.getId())).isEqualTo(new TodoCounts(0, 0));
+		assertThatThrownBy(() -> todoService.deleteTodoById(own1.getId(), owner))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void oversizedBatchIsRejected() {
+		List<Long> ids = LongStream.rangeClosed(1, TodoService.MAX_BATCH_SIZE + 1).boxed().toList();
+
+		assertThatThrownBy(() -> todoService.completeTodos(ids, owner))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("Too many todos");
+	}
+
+	@Test
+	void singleChangesOnOthersTodoAreRejected() {
+		assertThatThrownBy(() -> todoService.setCompleted(othersTodo.getId(), true, owner))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> todoService.deleteTodoById(othersTodo.getId(), owner))
+				.isInstanceOf(IllegalArgumentException.class);
+
+		assertThat(reload(othersTodo).isCompleted()).isFalse();
+	}
+
+	@Test
+	void keysetPagesWalkForwardAndBack() {
+		Todo own3 = saveTodo(owner, "own 3");
+		Todo own4 = saveTodo(owner, "own 4");
+		Todo own5 = saveTodo(owner, "own 5");
+
+		// 첫 페이지: 이전 페이지 없음
+		TodoPage first = todoService.getTodoPage(owner.getId(), null, null, 2);
+		assertThat(idsOf(first)).containsExactly(own1.getId(), own2.getId());
+		assertThat(first.getPrevCursor()).isNull();
+		assertThat(first.getNextCursor()).isEqualTo(own2.getId());
+
+		// 가운데 페이지: 양쪽 모두 있음
+		TodoPage middle = todoService.getTodoPage(owner.getId(), first.getNextCursor(), null, 2);
+		assertThat(idsOf(middle)).containsExactly(own3.getId(), own4.getId());
+		assertThat(middle.getPrevCursor()).isEqualTo(own3.getId());
+		assertThat(middle.getNextCursor()).isEqualTo(own4.getId());
+
+		// 마지막 페이지: 남은 1건만, 다음 페이지 없음
+		TodoPage last = todoService.getTodoPage(owner.getId(), middle.getNextCursor(), null, 2);
+		assertThat(idsOf(last)).containsExactly(own5.getId());
+		assertThat(last.getPrevCursor()).isEqualTo(own5.getId());
+		assertThat(last.getNextCursor()).isNull();
+
+		// 마지막 페이지에서 이전으로: 내림차순 조회 결과를 뒤집어 가운데 페이지와 같은 순서/커서
+		TodoPage backToMiddle = todoService.getTodoPage(owner.getId(), null, last.getPrevCursor(), 2);
+		assertThat(idsOf(backToMiddle)).containsExactly(own3.getId(), own4.getId());
+		assertThat(backToMiddle.getPrevCursor()).isEqualTo(own3.getId());
+		assertThat(backToMiddle.getNextCursor()).isEqualTo(own4.getId());
+
+		// 첫 페이지로: 더 이전 페이지 없음
+		TodoPage backToFirst = todoService.getTodoPage(owner.getId(), null, backToMiddle.getPrevCursor(), 2);
+		assertThat(idsOf(backToFirst)).containsExactly(own1.getId(), own2.getId());
+		assertThat(backToFirst.getPrevCursor()).isNull();
+		assertThat(backToFirst.getNextCursor()).isEqualTo(own2.getId());
+	}
+
+	private List<Long> idsOf(TodoPage page) {
+		return page.getItems().stream().map(TodoSummary::getId).toList();
+	}
+
+	private User saveUser() {
+		User user = new User();
+		user.setUsername(UUID.randomUUID() + "@example.com");
+		return userRepository.save(user);
+	}
+
+	private Todo saveTodo(User user, String title) {
+		Todo todo = new Todo();
+		todo.setTitle(title);
+		todo.setUser(user);
+		return todoRepository.save(todo);
+	}
+
+	private Todo reload(Todo todo) {
+		return todoRepository.findById(todo.getId()).orElseThrow();
+	}
+}
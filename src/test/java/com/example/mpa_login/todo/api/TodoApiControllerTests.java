@@ -0,0 +1,149 @@
+package com.example.mpa_login.todo.api;
+
+import com.example.mpa_login.security.model.CustomUser;
+import com.example.mpa_login.security.model.UserAuthorities;
+import com.example.mpa_login.todo.TodoRepository;
+import com.example.mpa_login.todo.model.Todo;
+import com.example.mpa_login.user.UserRepository;
+import com.example.mpa_login.user.model.User;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// /api/todos 응답 코드: ETag/304, 201, 204, 404, 409, 401
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TodoApiControllerTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TodoRepository todoRepository;
+
+	private CustomUser principal;
+	private Todo todo;
+
+	@BeforeEach
+	void setUp() {
+		User owner = new User();
+		owner.setUsername(UUID.randomUUID() + "@example.com");
+		owner = userRepository.save(owner);
+
+		Todo newTodo = new Todo();
+		newTodo.setTitle("first");
+		newTodo.setUser(owner);
+		todo = todoRepository.save(newTodo);
+
+		principal = new CustomUser(owner.getId(), owner.getUsername(), "", UserAuthorities.USER);
+	}
+
+	@Test
+	void unauthenticatedRequestGets401() throws Exception {
+		mockMvc.perform(get("/api/todos"))
+				.andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	void deletedAccountGets401LikeTheTodoPage() throws Exception {
+		CustomUser deleted = new CustomUser(Long.MAX_VALUE, "deleted@example.com", "", UserAuthorities.USER);
+
+		mockMvc.perform(get("/api/todos").with(user(deleted)))
+				.andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	void unchangedListIsAnswered304AndChangedListGetsNewETag() throws Exception {
+		String etag = mockMvc.perform(get("/api/todos").with(user(principal)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items[0].title", is("first")))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertThat(etag).startsWith("W/\"" + principal.getUserId() + "-");
+
+		mockMvc.perform(get("/api/todos").with(user(principal)).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified())
+				.andExpect(content().string(""));
+
+		mockMvc.perform(post("/api/todos").with(user(principal)).with(csrf())
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"title\":\"second\"}"))
+				.andExpect(status().isCreated());
+
+		mockMvc.perform(get("/api/todos").with(user(principal)).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void createReturns201WithLocation() throws Exception {
+		MockHttpServletResponse response = mockMvc.perform(post("/api/todos").with(user(principal)).with(csrf())
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"title\":\"new\",\"description\":\"desc\"}"))
+				.andExpect(status().isCreated())
+				.andExpect(jsonPath("$.title", is("new")))
+				.andReturn().getResponse();
+
+		Number id = JsonPath.read(response.getContentAsString(), "$.id");
+		assertThat(response.getHeader(HttpHeaders.LOCATION)).endsWith("/api/todos/" + id);
+	}
+
+	@Test
+	void deleteReturns204ThenMissingTodoReturns404() throws Exception {
+		mockMvc.perform(delete("/api/todos/{id}", todo.getId()).with(user(principal)).with(csrf()))
+				.andExpect(status().isNoContent());
+
+		mockMvc.perform(delete("/api/todos/{id}", todo.getId()).with(user(principal)).with(csrf()))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void otherUsersTodoReturns404() throws Exception {
+		CustomUser other = new CustomUser(userRepository.save(new User()).getId(), "other", "", UserAuthorities.USER);
+
+		mockMvc.perform(patch("/api/todos/{id}", todo.getId()).with(user(other)).with(csrf())
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"completed\":true}"))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void staleVersionPatchReturns409() throws Exception {
+		long staleVersion = todo.getVersion();
+		mockMvc.perform(patch("/api/todos/{id}", todo.getId()).with(user(principal)).with(csrf())
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"title\":\"updated\",\"version\":" + staleVersion + "}"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.version", is((int) staleVersion + 1)));
+
+		mockMvc.perform(patch("/api/todos/{id}", todo.getId()).with(user(principal)).with(csrf())
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"title\":\"mine\",\"version\":" + staleVersion + "}"))
+				.andExpect(status().isConflict());
+	}
+}
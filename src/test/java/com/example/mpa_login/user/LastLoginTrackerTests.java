@@ -0,0 +1,99 @@
+package com.example.mpa_login.user;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 로그인 기록 합치기와 배치 반영
+class LastLoginTrackerTests {
+
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+	private final LastLoginTracker tracker = new LastLoginTracker(jdbcTemplate, new SimpleMeterRegistry());
+
+	@Test
+	void repeatedLoginsAreCoalescedIntoOneRowPerUser() {
+		tracker.recordLogin(1L);
+		tracker.recordLogin(1L);
+		tracker.recordLogin(1L);
+		tracker.recordLogin(2L);
+
+		tracker.flush();
+
+		List<Object[]> batch = flushedBatch(1);
+		assertThat(batch).hasSize(2);
+		assertThat(rowFor(batch, 1L)[1]).isEqualTo(3L); // 로그인 횟수 합산
+		assertThat(rowFor(batch, 2L)[1]).isEqualTo(1L);
+	}
+
+	@Test
+	void emptyFlushDoesNotTouchDatabase() {
+		tracker.flush();
+
+		verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+	}
+
+	@Test
+	void flushedLoginsAreNotWrittenAgain() {
+		tracker.recordLogin(1L);
+		tracker.flush();
+		tracker.flush(); // 반영할 기록 없음
+
+		tracker.recordLogin(1L);
+		tracker.flush();
+
+		List<Object[]> second = flushedBatch(2);
+		assertThat(second).hasSize(1);
+		assertThat(second.get(0)[1]).isEqualTo(1L);
+	}
+
+	@Test
+	void failedFlushIsMergedBackAndRetried() {
+		when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+				.thenThrow(new TransientDataAccessResourceException("connection reset"))
+				.thenReturn(new int[]{1});
+		tracker.recordLogin(1L);
+		tracker.recordLogin(1L);
+		tracker.flush(); // 실패: 기록 유지
+
+		tracker.recordLogin(1L); // 실패 이후의 로그인과 합쳐짐
+		tracker.flush();
+
+		List<Object[]> retried = flushedBatch(2);
+		assertThat(retried).hasSize(1);
+		assertThat(retried.get(0)[1]).isEqualTo(3L);
+	}
+
+	@Test
+	void destroyFlushesPendingLogins() {
+		tracker.recordLogin(1L);
+
+		tracker.destroy();
+
+		assertThat(flushedBatch(1)).hasSize(1);
+	}
+
+	// batchUpdate 가 times 번 호출되었는지 확인하고 마지막 배치 반환
+	@SuppressWarnings("unchecked")
+	private List<Object[]> flushedBatch(int times) {
+		ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate, times(times)).batchUpdate(anyString(), captor.capture());
+		return captor.getValue();
+	}
+
+	private static Object[] rowFor(List<Object[]> batch, Long userId) {
+		return batch.stream().filter(row -> userId.equals(row[2])).findFirst().orElseThrow();
+	}
+}
@@ -0,0 +1,93 @@
+package com.example.mpa_login.user;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// (social_type, social_id) 기준 등록/조회와 이메일 기준 연결 정책 (같은 제공자의 이전 계정만 연결)
+@DataJpaTest
+@Import(SocialAccountRepository.class)
+class SocialAccountRepositoryTests {
+
+	@Autowired
+	private SocialAccountRepository socialAccountRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void sameSocialIdentityResolvesToOneUser() {
+		SocialAccount first = socialAccountRepository.upsert("kakao", "123", "hong@example.com");
+		SocialAccount second = socialAccountRepository.upsert("kakao", "123", "hong@example.com");
+
+		assertThat(second).isEqualTo(first);
+		assertThat(first.username()).isEqualTo("hong@example.com");
+		assertThat(countUsers()).isEqualTo(1);
+	}
+
+	@Test
+	void socialAccountsWithoutEmailDoNotCollide() {
+		SocialAccount first = socialAccountRepository.upsert("github", "1", null);
+		SocialAccount second = socialAccountRepository.upsert("github", "2", null);
+
+		assertThat(second.userId()).isNotEqualTo(first.userId());
+		assertThat(countUsers()).isEqualTo(2);
+	}
+
+	@Test
+	void legacyAccountOfSameProviderIsLinkedAndBackfilled() {
+		// 이전 버전: social_id 없이 이메일로만 저장된 구글 계정
+		jdbcTemplate.update("insert into users (username, password, social_type, social_id, login_count) "
+				+ "values ('hong@example.com', 'legacy-hash', 'google', null, 0)");
+		Long legacyId = jdbcTemplate.queryForObject("select id from users where username = 'hong@example.com'", Long.class);
+
+		SocialAccount account = socialAccountRepository.upsert("google", "g-1", "hong@example.com");
+
+		assertThat(account.userId()).isEqualTo(legacyId);
+		assertThat(jdbcTemplate.queryForObject("select social_id from users where id = ?", String.class, legacyId))
+				.isEqualTo("g-1");
+		assertThat(socialAccountRepository.upsert("google", "g-1", "hong@example.com")).isEqualTo(account);
+		assertThat(countUsers()).isEqualTo(1);
+	}
+
+	@Test
+	void passwordAccountIsNotLinkedByEmail() {
+		jdbcTemplate.update("insert into users (username, password, login_count) values ('hong@example.com', 'hash', 0)");
+		Long passwordAccountId = jdbcTemplate.queryForObject("select id from users where username = 'hong@example.com'", Long.class);
+
+		SocialAccount account = socialAccountRepository.upsert("google", "g-1", "hong@example.com");
+
+		assertThat(account.userId()).isNotEqualTo(passwordAccountId);
+		assertThat(account.username()).isNull();
+		assertThat(jdbcTemplate.queryForObject("select social_type from users where id = ?", String.class, passwordAccountId))
+				.isNull();
+	}
+
+	@Test
+	void otherProviderWithSameEmailGetsSeparateAccount() {
+		SocialAccount google = socialAccountRepository.upsert("google", "g-1", "hong@example.com");
+		SocialAccount kakao = socialAccountRepository.upsert("kakao", "k-1", "hong@example.com");
+
+		assertThat(kakao.userId()).isNotEqualTo(google.userId());
+		assertThat(kakao.username()).isNull();
+		assertThat(socialAccountRepository.upsert("kakao", "k-1", "hong@example.com")).isEqualTo(kakao);
+	}
+
+	@Test
+	void changedProviderEmailKeepsStoredAccount() {
+		SocialAccount first = socialAccountRepository.upsert("github", "1", "old@example.com");
+
+		SocialAccount again = socialAccountRepository.upsert("github", "1", "new@example.com");
+
+		assertThat(again).isEqualTo(first); // 저장된 username 기준 (제공자 쪽 이메일 변경으로 바뀌지 않음)
+		assertThat(countUsers()).isEqualTo(1);
+	}
+
+	private int countUsers() {
+		return jdbcTemplate.queryForObject("select count(*) from users", Integer.class);
+	}
+}
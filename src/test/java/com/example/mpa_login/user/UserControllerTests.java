@@ -0,0 +1,54 @@
+package com.example.mpa_login.user;
+
+import com.example.mpa_login.security.crypto.PasswordHashingRejectedException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 회원가입 요청: 비밀번호 해시 풀이 포화 상태면 Retry-After 와 함께 503
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserControllerTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoSpyBean
+	private UserService userService;
+
+	@Test
+	void registrationSucceeds() throws Exception {
+		mockMvc.perform(post("/users/register").with(csrf())
+						.param("username", UUID.randomUUID() + "@example.com")
+						.param("password", "password"))
+				.andExpect(redirectedUrl("/login"));
+	}
+
+	@Test
+	void saturatedHashingPoolReturnsRetryAfter() throws Exception {
+		doThrow(new PasswordHashingRejectedException("Password hashing queue is full", new RejectedExecutionException()))
+				.when(userService).registerUser(anyString(), anyString());
+
+		mockMvc.perform(post("/users/register").with(csrf())
+						.param("username", UUID.randomUUID() + "@example.com")
+						.param("password", "password"))
+				.andExpect(status().isServiceUnavailable())
+				.andExpect(header().string("Retry-After", "1"));
+	}
+}
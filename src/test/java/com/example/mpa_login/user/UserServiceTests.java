@@ -0,0 +1,37 @@
+package com.example.mpa_login.user;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 회원가입 시 username 유니크 인덱스 위반만 DuplicateUsernameException 으로 변환되는지 확인
+@SpringBootTest
+@ActiveProfiles("test")
+class UserServiceTests {
+
+	@Autowired
+	private UserService userService;
+
+	@Test
+	void registeringSameUsernameTwiceIsRejectedAsDuplicate() {
+		userService.registerUser("duplicate@example.com", "password");
+
+		assertThatThrownBy(() -> userService.registerUser("duplicate@example.com", "password"))
+				.isInstanceOf(DuplicateUsernameException.class);
+		assertThat(userService.findByUsername("duplicate@example.com")).isPresent();
+	}
+
+	@Test
+	void otherIntegrityViolationsAreNotReportedAsDuplicate() {
+		String tooLong = "a".repeat(300); // username 컬럼 길이(255) 초과
+
+		assertThatThrownBy(() -> userService.registerUser(tooLong, "password"))
+				.isInstanceOf(DataIntegrityViolationException.class)
+				.isNotInstanceOf(DuplicateUsernameException.class);
+	}
+}